@@ -0,0 +1,48 @@
+package com.wjc.codetest.benchmark;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * 벤치마크용 카테고리 분포.
+ * UNIFORM : 모든 카테고리에 고르게 분포.
+ * SKEWED  : 1/(rank+1) 가중치의 Zipf 분포로, 소수 카테고리에 상품이 몰리는 실제 카탈로그 형태를 흉내냅니다.
+ */
+public enum CatalogDistribution {
+    UNIFORM,
+    SKEWED;
+
+    public Sampler sampler(int categoryCount) {
+        double[] cumulative = new double[categoryCount];
+        double total = 0;
+        for (int i = 0; i < categoryCount; i++) {
+            total += this == UNIFORM ? 1.0 : 1.0 / (i + 1);
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < categoryCount; i++) {
+            cumulative[i] /= total;
+        }
+        return new Sampler(cumulative);
+    }
+
+    public static String categoryName(int index) {
+        return "category-" + index;
+    }
+
+    public static final class Sampler {
+        private final double[] cumulative;
+
+        private Sampler(double[] cumulative) {
+            this.cumulative = cumulative;
+        }
+
+        public int nextIndex(RandomGenerator random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+        }
+
+        public String nextCategory(RandomGenerator random) {
+            return categoryName(nextIndex(random));
+        }
+    }
+}
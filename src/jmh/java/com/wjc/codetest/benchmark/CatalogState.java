@@ -0,0 +1,163 @@
+package com.wjc.codetest.benchmark;
+
+import com.wjc.codetest.CodeTestApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크 공용 상태.
+ * Trial 단위로 JPA 레이어만 기동(WebApplicationType.NONE)하고, 전용 H2 인메모리 DB에 카탈로그를 적재합니다.
+ * 적재 후 컨텍스트를 재기동하여 기동 시점에 적재되는 인메모리 상태(카테고리 집계 등)가 적재된 카탈로그를 반영하도록 합니다.
+ * 카탈로그 크기/카테고리 수/분포 등은 -p 옵션으로 변경할 수 있습니다. (예: -p catalogSize=1000000 -p distribution=SKEWED)
+ */
+@State(Scope.Benchmark)
+public class CatalogState {
+
+    private static final int SEED_BATCH_SIZE = 10_000;
+
+    @Param({"10000", "1000000"})
+    public int catalogSize;
+
+    @Param({"UNIFORM", "SKEWED"})
+    public CatalogDistribution distribution;
+
+    @Param({"100"})
+    public int categoryCount;
+
+    /**
+     * false로 지정하면 목록 조회가 COUNT 쿼리 대신 인메모리 카테고리 집계값을 사용합니다. (product.list.count-query)
+     */
+    @Param({"true"})
+    public boolean countQuery;
+
+    /**
+     * true로 지정하면 단건/목록/커서 조회를 인메모리 ProductIndex에서 처리합니다. (product.index.enabled)
+     */
+    @Param({"false"})
+    public boolean indexEnabled;
+
+    /**
+     * true로 지정하면 l2cache 프로파일(Hibernate 2차 캐시 + 쿼리 캐시)로 기동합니다.
+     */
+    @Param({"false"})
+    public boolean l2Cache;
+
+    /**
+     * 애플리케이션 레벨 단건 조회 캐시(product.cache.enabled). l2Cache와 조합하여 두 캐시 계층을 비교합니다.
+     * (예: -p l2Cache=false,true -p appCache=true,false)
+     */
+    @Param({"true"})
+    public boolean appCache;
+
+    /**
+     * true로 지정하면 단건 등록을 write-behind 버퍼로 처리합니다. (product.write-behind.enabled)
+     * 버퍼가 가득 찬 이후에는 배치 커밋 처리량이 등록 처리량을 결정하므로, 측정값은 지속 처리량(sustained throughput)입니다.
+     */
+    @Param({"false"})
+    public boolean writeBehind;
+
+    public ConfigurableApplicationContext context;
+    public CatalogDistribution.Sampler sampler;
+    public long[] productIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sampler = distribution.sampler(categoryCount);
+        try (ConfigurableApplicationContext seedContext = start()) {
+            seed(seedContext.getBean(JdbcTemplate.class));
+        }
+        context = start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 설정은 커맨드라인 인자(--key=value)로 전달합니다.
+     * SpringApplicationBuilder.properties()는 기본값(default properties)으로 등록되어 application.properties에 의해 덮어써지기 때문입니다.
+     */
+    private ConfigurableApplicationContext start() {
+        return application().run(properties().stream().map(property -> "--" + property).toArray(String[]::new));
+    }
+
+    /**
+     * 벤치마크 컨텍스트 설정. 하위 State에서 웹 서버 기동 등 설정을 변경할 수 있습니다.
+     */
+    protected SpringApplicationBuilder application() {
+        return new SpringApplicationBuilder(CodeTestApplication.class)
+                .web(WebApplicationType.NONE);
+    }
+
+    /**
+     * 벤치마크 파라미터에 따른 애플리케이션 설정 (key=value). 하위 State에서 항목을 추가할 수 있습니다.
+     */
+    protected List<String> properties() {
+        List<String> properties = new ArrayList<>();
+        properties.add("spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        properties.add("logging.level.root=WARN");
+        properties.add("product.list.count-query=" + countQuery);
+        properties.add("product.index.enabled=" + indexEnabled);
+        if (l2Cache) {
+            properties.add("spring.profiles.active=l2cache");
+        }
+        properties.add("product.cache.enabled=" + appCache);
+        properties.add("product.write-behind.enabled=" + writeBehind);
+        return properties;
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public long randomProductId() {
+        return productIds[ThreadLocalRandom.current().nextInt(productIds.length)];
+    }
+
+    public String randomCategory() {
+        return sampler.nextCategory(ThreadLocalRandom.current());
+    }
+
+    /**
+     * 카테고리 사전(category)을 먼저 적재한 뒤, 엔티티와 동일한 시퀀스(product_seq)에서 ID를 발급받아 상품을 JDBC 배치로 적재합니다.
+     * JPA save()로 적재할 경우 100만 건 기준 수 분이 소요되어 측정 준비 시간이 과도해지기 때문입니다.
+     */
+    private void seed(JdbcTemplate jdbcTemplate) {
+        int[] categoryIds = new int[categoryCount];
+        for (int i = 0; i < categoryCount; i++) {
+            jdbcTemplate.update("INSERT INTO category (name) VALUES (?)", CatalogDistribution.categoryName(i));
+            categoryIds[i] = jdbcTemplate.queryForObject(
+                    "SELECT category_id FROM category WHERE name = ?", Integer.class, CatalogDistribution.categoryName(i));
+        }
+        SplittableRandom random = new SplittableRandom(42);
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < catalogSize; i++) {
+            batch.add(new Object[]{categoryIds[sampler.nextIndex(random)], "product-" + i});
+            if (batch.size() == SEED_BATCH_SIZE || i == catalogSize - 1) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO product (product_id, category_id, name, version) VALUES (NEXT VALUE FOR product_seq, ?, ?, 0)",
+                        batch
+                );
+                batch.clear();
+            }
+        }
+        productIds = jdbcTemplate.queryForList("SELECT product_id FROM product ORDER BY product_id", Long.class)
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+}
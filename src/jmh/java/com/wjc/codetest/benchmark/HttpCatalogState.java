@@ -0,0 +1,53 @@
+package com.wjc.codetest.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * HTTP 부하 벤치마크용 상태.
+ * CatalogState와 동일하게 카탈로그를 적재하되, 임의 포트로 Tomcat을 기동하여 실제 요청 처리 스레드 모델을 측정합니다.
+ * virtualThreads 파라미터로 플랫폼 스레드 풀(server.tomcat.threads.max)과 가상 스레드(spring.threads.virtual.enabled)를 비교합니다.
+ * 요청이 JDBC까지 도달하도록 상품 캐시는 비활성화합니다.
+ */
+@State(Scope.Benchmark)
+public class HttpCatalogState extends CatalogState {
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    public HttpClient client;
+    public URI baseUri;
+
+    @Override
+    protected SpringApplicationBuilder application() {
+        return super.application().web(WebApplicationType.SERVLET);
+    }
+
+    @Override
+    protected List<String> properties() {
+        List<String> properties = super.properties();
+        properties.add("server.port=0");
+        properties.add("spring.threads.virtual.enabled=" + virtualThreads);
+        properties.add("product.cache.enabled=false");
+        return properties;
+    }
+
+    @Setup(Level.Trial)
+    public void startClient() {
+        baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+    }
+}
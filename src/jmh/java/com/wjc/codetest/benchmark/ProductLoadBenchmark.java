@@ -0,0 +1,57 @@
+package com.wjc.codetest.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProductController HTTP 부하 벤치마크. 1024개의 동시 클라이언트(JMH 스레드)가 블로킹 요청을 보냅니다.
+ * Throughput(처리량)과 SampleTime(p99 등 지연 분위수)을 함께 측정하며, virtualThreads=false/true 결과를 나란히 비교합니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=ProductLoadBenchmark
+ *      (jar 실행 시: java -jar build/libs/*-jmh.jar ProductLoadBenchmark -p catalogSize=10000 -t 2000)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(1024)
+public class ProductLoadBenchmark {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    @Benchmark
+    public int getProduct(HttpCatalogState catalog) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(catalog.baseUri.resolve("/get/product/by/" + catalog.randomProductId()))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        return send(catalog, request);
+    }
+
+    @Benchmark
+    public int getListByCategory(HttpCatalogState catalog) throws IOException, InterruptedException {
+        String body = "{\"category\":\"" + catalog.randomCategory() + "\",\"page\":"
+                + ThreadLocalRandom.current().nextInt(10) + ",\"size\":20}";
+        HttpRequest request = HttpRequest.newBuilder(catalog.baseUri.resolve("/product/list"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return send(catalog, request);
+    }
+
+    private static int send(HttpCatalogState catalog, HttpRequest request) throws IOException, InterruptedException {
+        int status = catalog.client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status != 200) {
+            throw new IllegalStateException("unexpected status " + status + " for " + request.uri());
+        }
+        return status;
+    }
+}
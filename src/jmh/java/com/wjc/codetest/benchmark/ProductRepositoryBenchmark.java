@@ -0,0 +1,69 @@
+package com.wjc.codetest.benchmark;
+
+import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import com.wjc.codetest.product.repository.ProductRepository;
+import com.wjc.codetest.product.service.CategoryDictionary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProductRepository 쿼리 단위 벤치마크.
+ * Service 벤치마크와 비교하여 Service 레이어에서 추가되는 비용을 분리해서 확인하는 용도입니다.
+ * Entity 조회(findById, findAllByCategory)와 DTO Projection 조회(findResponse*)를 쌍으로 두어
+ * gc.alloc.rate.norm으로 op당 할당량 차이를 비교할 수 있습니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ProductRepositoryBenchmark {
+
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "categoryId", "id"));
+
+    private ProductRepository productRepository;
+    private CategoryDictionary categoryDictionary;
+
+    @Setup(Level.Trial)
+    public void setUp(CatalogState catalog) {
+        productRepository = catalog.bean(ProductRepository.class);
+        categoryDictionary = catalog.bean(CategoryDictionary.class);
+    }
+
+    @Benchmark
+    public Optional<Product> findById(CatalogState catalog) {
+        return productRepository.findById(catalog.randomProductId());
+    }
+
+    @Benchmark
+    public Optional<ProductResponse> findResponseById(CatalogState catalog) {
+        return productRepository.findResponseById(catalog.randomProductId());
+    }
+
+    @Benchmark
+    public Page<Product> findAllByCategory(CatalogState catalog) {
+        return productRepository.findAllByCategory(categoryDictionary.resolve(catalog.randomCategory()), FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<ProductResponse> findResponsesByCategory(CatalogState catalog) {
+        return productRepository.findResponsesByCategory(categoryDictionary.idOf(catalog.randomCategory()).orElseThrow(), FIRST_PAGE);
+    }
+
+    @Benchmark
+    public List<String> findDistinctCategories() {
+        return productRepository.findDistinctCategories();
+    }
+}
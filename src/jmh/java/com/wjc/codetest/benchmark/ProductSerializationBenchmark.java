@@ -0,0 +1,98 @@
+package com.wjc.codetest.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.wjc.codetest.product.model.response.ProductListResponse;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 목록 응답(ProductListResponse) 직렬화 벤치마크. 응답 형식(JSON/CBOR/Smile)과 gzip 압축 여부별 직렬화 CPU 시간을 측정합니다.
+ * 형식별 ObjectMapper는 애플리케이션(ProductWebConfig)과 같이 Jackson2ObjectMapperBuilder로 생성하며, 압축은 Tomcat과 같은 기본 압축 레벨을 사용합니다.
+ * 응답 크기(bytes)는 Trial 시작 시 한 번 계산하여 로그로 남깁니다. 파라미터 조합별 고정값이므로 측정 결과(@AuxCounters)에 넣지 않습니다.
+ * (EVENTS 카운터는 iteration 수만큼 합산되고, OPERATIONS 카운터는 시간으로 나눈 비율로 보고됩니다)
+ * DB/HTTP를 거치지 않으므로 Spring 컨텍스트를 기동하지 않습니다.
+ * 실행: java -jar build/libs/*-jmh.jar ProductSerializationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class ProductSerializationBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSerializationBenchmark.class);
+
+    public enum Format {
+        JSON(JsonFactory::new),
+        CBOR(CBORFactory::new),
+        SMILE(SmileFactory::new);
+
+        private final Supplier<JsonFactory> factory;
+
+        Format(Supplier<JsonFactory> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param({"100", "1000"})
+    public int pageSize;
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    public Format format;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    private ObjectWriter writer;
+    private ProductListResponse page;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 * 1024);
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        writer = Jackson2ObjectMapperBuilder.json()
+                .factory(format.factory.get())
+                .build()
+                .writerFor(ProductListResponse.class);
+        List<ProductResponse> products = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            long id = 1_000_000L + i;
+            products.add(new ProductResponse(id, CatalogDistribution.categoryName(i % 100), "product-" + id, 3L));
+        }
+        page = new ProductListResponse(products, 1_000, 1_000L * pageSize, 0);
+        log.info("payload :: format={}, gzip={}, pageSize={}, bytes={}", format, gzip, pageSize, serialize());
+    }
+
+    @Benchmark
+    public int serialize() throws IOException {
+        buffer.reset();
+        if (gzip) {
+            try (OutputStream out = new GZIPOutputStream(buffer, 8 * 1024)) {
+                writer.writeValue(out, page);
+            }
+        } else {
+            writer.writeValue(buffer, page);
+        }
+        return buffer.size();
+    }
+}
@@ -0,0 +1,93 @@
+package com.wjc.codetest.benchmark;
+
+import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.model.request.CreateProductRequest;
+import com.wjc.codetest.product.model.request.GetProductCursorListRequest;
+import com.wjc.codetest.product.model.request.GetProductListRequest;
+import com.wjc.codetest.product.model.request.UpdateProductRequest;
+import com.wjc.codetest.product.model.response.ProductCursorListResponse;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import com.wjc.codetest.product.service.ProductCursor;
+import com.wjc.codetest.product.service.ProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProductService 주요 메서드 벤치마크.
+ * 실행: ./gradlew jmh -Pjmh.includes=ProductServiceBenchmark (gc 프로파일러로 op당 할당량(gc.alloc.rate.norm)이 함께 출력됩니다.)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ProductServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ProductService productService;
+
+    @Setup(Level.Trial)
+    public void setUp(CatalogState catalog) {
+        productService = catalog.bean(ProductService.class);
+    }
+
+    @Benchmark
+    public Product getProductById(CatalogState catalog) {
+        return productService.getProductById(catalog.randomProductId());
+    }
+
+    /**
+     * ProductCache를 거치는 단건 조회. 카탈로그 크기가 product.cache.max-entries보다 크면 hit 비율이 그만큼 낮아집니다.
+     */
+    @Benchmark
+    public ProductResponse getProduct(CatalogState catalog) {
+        return productService.getProduct(catalog.randomProductId());
+    }
+
+    @Benchmark
+    public Product create(CatalogState catalog) {
+        return productService.create(new CreateProductRequest(catalog.randomCategory(), "benchmark-product"));
+    }
+
+    @Benchmark
+    public Product update(CatalogState catalog) {
+        long productId = catalog.randomProductId();
+        return productService.update(new UpdateProductRequest(productId, catalog.randomCategory(), "updated-" + productId));
+    }
+
+    @Benchmark
+    public Page<ProductResponse> getListByCategory(CatalogState catalog) {
+        GetProductListRequest request = new GetProductListRequest();
+        request.setCategory(catalog.randomCategory());
+        request.setPage(ThreadLocalRandom.current().nextInt(10));
+        request.setSize(PAGE_SIZE);
+        return productService.getListByCategory(request);
+    }
+
+    /**
+     * 임의의 상품 ID를 커서로 사용하므로 평균적으로 카테고리 중간 이후의 깊은 페이지를 조회합니다.
+     */
+    @Benchmark
+    public ProductCursorListResponse getListByCategoryAfter(CatalogState catalog) {
+        GetProductCursorListRequest request = new GetProductCursorListRequest();
+        request.setCategory(catalog.randomCategory());
+        request.setAfter(ProductCursor.encode(catalog.randomProductId()));
+        request.setSize(PAGE_SIZE);
+        return productService.getListByCategoryAfter(request);
+    }
+
+    @Benchmark
+    public List<String> getUniqueCategories() {
+        return productService.getUniqueCategories();
+    }
+}
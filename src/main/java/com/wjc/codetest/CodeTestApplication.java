@@ -2,6 +2,8 @@ package com.wjc.codetest;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 
 /**
@@ -29,6 +31,8 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  *      QueryDSL 단점 : 러닝커브 존재, 프로젝트 초기 설정 복잡. Qentity 클래스 생성에 따른 관리포인트 추가 및 빌드시간 증가.
  */
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class CodeTestApplication {
 
     public static void main(String[] args) {
@@ -1,6 +1,9 @@
 package com.wjc.codetest;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -8,6 +11,8 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import java.util.concurrent.RejectedExecutionException;
+
 
 /**
  * 문제: ExceptionHandler에서 RuntimeException만 처리하고 있어, 다른 예외 상황에 대한 처리가 누락되어 있으며,
@@ -29,6 +34,68 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 @ControllerAdvice(value = {"com.wjc.codetest.product.controller"})
 public class GlobalExceptionHandler {
 
+    @ResponseBody
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(value = HttpStatus.BAD_REQUEST)
+    public ResponseEntity<String> illegalArgumentException(Exception e) {
+        log.warn("status :: {}, errorType :: {}, errorCause :: {}",
+                HttpStatus.BAD_REQUEST,
+                "illegalArgumentException",
+                e.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+    }
+
+    /**
+     * If-Match 전제 조건 불일치(버전 불일치, 조건부 수정 간 동시 수정, If-Match: *인데 상품 없음)는 412로 응답하여 클라이언트가 최신 상태를 다시 조회한 뒤 재시도하도록 합니다.
+     */
+    @ResponseBody
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(value = HttpStatus.PRECONDITION_FAILED)
+    public ResponseEntity<String> optimisticLockingFailureException(Exception e) {
+        log.warn("status :: {}, errorType :: {}, errorCause :: {}",
+                HttpStatus.PRECONDITION_FAILED,
+                "optimisticLockingFailureException",
+                e.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+    }
+
+    /**
+     * 전제 조건 없이 보낸 수정/삭제가 동시 수정과 충돌한 경우는 412가 아닌 409로 응답합니다.
+     * (OptimisticLockingFailureException은 더 구체적인 위 핸들러가 처리합니다)
+     */
+    @ResponseBody
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    @ResponseStatus(value = HttpStatus.CONFLICT)
+    public ResponseEntity<String> concurrencyFailureException(Exception e) {
+        log.warn("status :: {}, errorType :: {}, errorCause :: {}",
+                HttpStatus.CONFLICT,
+                "concurrencyFailureException",
+                e.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    /**
+     * 처리 용량 초과(write-behind 버퍼 가득 참 등)는 503으로 응답하여 클라이언트가 잠시 후 재시도하도록 합니다.
+     */
+    @ResponseBody
+    @ExceptionHandler(RejectedExecutionException.class)
+    @ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<String> rejectedExecutionException(Exception e) {
+        log.warn("status :: {}, errorType :: {}, errorCause :: {}",
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "rejectedExecutionException",
+                e.getMessage()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+    }
+
     @ResponseBody
     @ExceptionHandler(RuntimeException.class)
     @ResponseStatus(value = HttpStatus.INTERNAL_SERVER_ERROR)
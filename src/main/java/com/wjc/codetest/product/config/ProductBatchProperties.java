@@ -0,0 +1,17 @@
+package com.wjc.codetest.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 상품 다건 조회 설정.
+ *
+ * @param maxIds    요청 1회 최대 ID 수
+ * @param chunkSize 캐시에 없는 ID를 IN 쿼리 1회에 전달할 최대 개수. DB별 바인드 파라미터 수 제한(Oracle IN 1000개 등)보다 작게 유지합니다.
+ */
+@ConfigurationProperties(prefix = "product.batch")
+public record ProductBatchProperties(
+        @DefaultValue("1000") int maxIds,
+        @DefaultValue("500") int chunkSize
+) {
+}
@@ -0,0 +1,21 @@
+package com.wjc.codetest.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 상품 단건 조회 캐시 설정.
+ *
+ * @param enabled    false인 경우 캐시를 거치지 않고 매번 DB를 조회합니다.
+ * @param maxEntries 최대 캐시 항목 수 (초과 시 W-TinyLFU 정책으로 제거)
+ * @param ttl        항목 저장 후 만료 시간
+ */
+@ConfigurationProperties(prefix = "product.cache")
+public record ProductCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") long maxEntries,
+        @DefaultValue("10m") Duration ttl
+) {
+}
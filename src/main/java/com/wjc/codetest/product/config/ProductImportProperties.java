@@ -0,0 +1,13 @@
+package com.wjc.codetest.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 상품 가져오기(import) 설정.
+ *
+ * @param chunkSize 트랜잭션 1회에 커밋할 row 수
+ */
+@ConfigurationProperties(prefix = "product.import")
+public record ProductImportProperties(@DefaultValue("5000") int chunkSize) {
+}
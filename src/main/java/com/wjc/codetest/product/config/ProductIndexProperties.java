@@ -0,0 +1,16 @@
+package com.wjc.codetest.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 인메모리 상품 인덱스 설정.
+ *
+ * @param enabled true인 경우 기동 시 전체 상품을 메모리에 적재하고, 단건/카테고리 목록(ID 순)/커서 조회를 DB 없이 처리합니다.
+ *                상품 수에 비례하여 힙을 사용하므로 카탈로그 크기를 고려하여 활성화합니다.
+ */
+@ConfigurationProperties(prefix = "product.index")
+public record ProductIndexProperties(
+        @DefaultValue("false") boolean enabled
+) {
+}
@@ -0,0 +1,15 @@
+package com.wjc.codetest.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 상품 목록 조회 설정.
+ *
+ * @param countQuery true : Page 조회 시 COUNT 쿼리로 전체 건수를 계산합니다.
+ *                   false : Slice로 조회하여 COUNT 쿼리를 생략하고, 전체 건수는 CategoryRegistry의 카테고리별 집계값을 사용합니다.
+ *                   (집계값은 인스턴스 메모리에 유지되므로 다중 인스턴스 환경에서는 근사값이 될 수 있습니다.)
+ */
+@ConfigurationProperties(prefix = "product.list")
+public record ProductListProperties(@DefaultValue("true") boolean countQuery) {
+}
@@ -0,0 +1,18 @@
+package com.wjc.codetest.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 상품명 검색 설정.
+ *
+ * @param enabled    true인 경우 기동 시 상품명 인덱스(접두어 정렬 맵 + 3-gram)를 적재하여 검색합니다. 전체 상품을 힙에 적재하므로 기본값은 false입니다.
+ *                   false인 경우 인덱스를 적재하지 않고 DB LIKE 조회로 검색합니다.
+ * @param maxResults 검색 1회 최대 결과 수
+ */
+@ConfigurationProperties(prefix = "product.search")
+public record ProductSearchProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("100") int maxResults
+) {
+}
@@ -0,0 +1,74 @@
+package com.wjc.codetest.product.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * 응답 형식과 압축 설정.
+ *
+ * 바이너리 응답 형식(CBOR, Smile)은 요청의 Accept 헤더로 선택하며(application/cbor, application/x-jackson-smile), 없으면 JSON으로 응답합니다.
+ * 같은 형식의 요청 본문(Content-Type)도 읽을 수 있습니다.
+ * Spring MVC도 라이브러리가 있으면 기본 컨버터를 등록하지만 기본 설정의 ObjectMapper를 사용하므로,
+ * JSON과 같은 직렬화 설정(spring.jackson.*)이 적용되도록 Spring Boot의 Jackson2ObjectMapperBuilder로 생성하여 기본 컨버터를 대체합니다.
+ *
+ * 세 컨버터 모두 server.compression.min-response-size 이하의 본문에 Content-Length를 지정하여 작은 응답은 압축하지 않습니다. (ThresholdBufferedOutput)
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ProductWebConfig {
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper, ServerProperties serverProperties) {
+        int threshold = compressionThreshold(serverProperties);
+        return new MappingJackson2HttpMessageConverter(objectMapper) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                ThresholdBufferedOutput.write(outputMessage, threshold, message -> super.writeInternal(object, type, message));
+            }
+        };
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder, ServerProperties serverProperties) {
+        int threshold = compressionThreshold(serverProperties);
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build()) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                ThresholdBufferedOutput.write(outputMessage, threshold, message -> super.writeInternal(object, type, message));
+            }
+        };
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder, ServerProperties serverProperties) {
+        int threshold = compressionThreshold(serverProperties);
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build()) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                ThresholdBufferedOutput.write(outputMessage, threshold, message -> super.writeInternal(object, type, message));
+            }
+        };
+    }
+
+    /**
+     * 압축이 꺼져 있으면 버퍼링하지 않습니다. (0)
+     */
+    private static int compressionThreshold(ServerProperties serverProperties) {
+        Compression compression = serverProperties.getCompression();
+        return compression.getEnabled() ? (int) compression.getMinResponseSize().toBytes() : 0;
+    }
+}
@@ -0,0 +1,28 @@
+package com.wjc.codetest.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 상품 등록 write-behind 설정.
+ *
+ * @param enabled       true인 경우 단건 등록을 버퍼에 적재한 뒤 바로 응답하고, 별도 스레드가 배치로 커밋합니다.
+ *                      응답은 202 Accepted이며, 커밋 전까지 등록은 내구성이 없습니다. (비정상 종료 시 유실)
+ * @param capacity      버퍼 최대 건수. 가득 차면 등록 요청이 offerTimeout 동안 대기합니다.
+ * @param batchSize     배치 1회 최대 건수. spring.jpa.properties.hibernate.jdbc.batch_size와 맞추는 것을 권장합니다.
+ * @param flushInterval 배치의 첫 건이 적재된 후 batchSize를 채우지 못해도 커밋하기까지의 최대 대기 시간
+ * @param offerTimeout  버퍼가 가득 찼을 때 등록 요청의 최대 대기 시간. 초과 시 503으로 응답합니다.
+ * @param drainTimeout  종료 시 버퍼에 남은 등록을 커밋하기까지의 최대 대기 시간
+ */
+@ConfigurationProperties(prefix = "product.write-behind")
+public record ProductWriteBehindProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") int capacity,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("50ms") Duration flushInterval,
+        @DefaultValue("1s") Duration offerTimeout,
+        @DefaultValue("30s") Duration drainTimeout
+) {
+}
@@ -0,0 +1,27 @@
+package com.wjc.codetest.product.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * 요청 단위 SQL 실행 통계 설정.
+ *
+ * @param enabled              false인 경우 DataSource를 감싸지 않습니다. (통계, Server-Timing 헤더, 경고 모두 비활성)
+ * @param statementBudget      요청당 허용 SQL 실행 횟수 기본값. 초과 시 경고 로그를 남깁니다.
+ * @param endpointBudgets      핸들러별 허용 횟수. 키는 "컨트롤러.메서드" 형식입니다. (예: product.query-stats.endpoint-budgets[ProductController.updateProduct]=3)
+ * @param repeatedQueryThreshold 한 요청에서 동일한 조회 SQL이 이 횟수 이상 실행되면 N+1 의심 경고를 남깁니다.
+ */
+@ConfigurationProperties(prefix = "product.query-stats")
+public record QueryStatsProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10") int statementBudget,
+        @DefaultValue Map<String, Integer> endpointBudgets,
+        @DefaultValue("5") int repeatedQueryThreshold
+) {
+
+    public int budgetFor(String endpoint) {
+        return endpointBudgets.getOrDefault(endpoint, statementBudget);
+    }
+}
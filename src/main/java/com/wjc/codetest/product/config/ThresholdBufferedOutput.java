@@ -0,0 +1,97 @@
+package com.wjc.codetest.product.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 응답 본문을 threshold 바이트까지만 버퍼링합니다.
+ * 본문이 threshold 이하로 끝나면 Content-Length를 지정하여 한 번에 쓰고, 넘으면 버퍼를 비운 뒤 나머지를 그대로(chunked) 씁니다.
+ *
+ * Tomcat 응답 압축(server.compression)은 Content-Length를 알 수 없는 응답을 크기와 무관하게 압축하므로,
+ * Jackson 컨버터처럼 길이 없이 스트리밍하는 응답에는 min-response-size가 적용되지 않습니다.
+ * 작은 응답에만 길이를 알려 압축 기준 크기가 실제로 동작하도록 하며, 버퍼 크기는 threshold로 제한됩니다.
+ */
+final class ThresholdBufferedOutput {
+
+    @FunctionalInterface
+    interface BodyWriter {
+        void write(HttpOutputMessage message) throws IOException;
+    }
+
+    private ThresholdBufferedOutput() {
+    }
+
+    static void write(HttpOutputMessage message, int threshold, BodyWriter writer) throws IOException {
+        if (threshold <= 0) {
+            writer.write(message);
+            return;
+        }
+        Body body = new Body(message, threshold);
+        writer.write(new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return message.getHeaders();
+            }
+        });
+        body.finish();
+    }
+
+    private static final class Body extends OutputStream {
+
+        private final HttpOutputMessage message;
+        private final int threshold;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private OutputStream target;
+
+        private Body(HttpOutputMessage message, int threshold) {
+            this.message = message;
+            this.threshold = threshold;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (target == null && buffer.size() + length > threshold) {
+                target = message.getBody();
+                buffer.writeTo(target);
+                buffer = null;
+            }
+            if (target != null) {
+                target.write(bytes, offset, length);
+            } else {
+                buffer.write(bytes, offset, length);
+            }
+        }
+
+        /**
+         * 버퍼링 중에는 flush로 응답이 커밋(길이 없이 헤더 전송)되지 않도록 무시합니다.
+         */
+        @Override
+        public void flush() throws IOException {
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        private void finish() throws IOException {
+            if (target != null) {
+                return;
+            }
+            message.getHeaders().setContentLength(buffer.size());
+            buffer.writeTo(message.getBody());
+        }
+    }
+}
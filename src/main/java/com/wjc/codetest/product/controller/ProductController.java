@@ -1,16 +1,43 @@
 package com.wjc.codetest.product.controller;
 
 import com.wjc.codetest.product.model.request.CreateProductRequest;
+import com.wjc.codetest.product.model.request.GetProductBatchRequest;
+import com.wjc.codetest.product.model.request.GetProductCursorListRequest;
 import com.wjc.codetest.product.model.request.GetProductListRequest;
+import com.wjc.codetest.product.model.request.PatchProductRequest;
+import com.wjc.codetest.product.model.request.ProductSearchMode;
 import com.wjc.codetest.product.model.domain.Product;
 import com.wjc.codetest.product.model.request.UpdateProductRequest;
+import com.wjc.codetest.product.model.response.BulkCreateProductResponse;
+import com.wjc.codetest.product.model.response.CategoryCountResponse;
+import com.wjc.codetest.product.model.response.ImportProductResponse;
+import com.wjc.codetest.product.model.response.PatchProductResponse;
+import com.wjc.codetest.product.model.response.ProductBatchResponse;
+import com.wjc.codetest.product.model.response.ProductCursorListResponse;
 import com.wjc.codetest.product.model.response.ProductListResponse;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import com.wjc.codetest.product.service.ProductExportService;
+import com.wjc.codetest.product.service.ProductImportService;
+import com.wjc.codetest.product.service.ProductSearchService;
 import com.wjc.codetest.product.service.ProductService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -41,24 +68,86 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ProductController {
     private final ProductService productService;
+    private final ProductExportService productExportService;
+    private final ProductImportService productImportService;
+    private final ProductSearchService productSearchService;
+    private final ContentNegotiationManager contentNegotiationManager;
+
+    /**
+     * ETag를 구분할 응답 표현. 컨버터 등록 순서(JSON -> Smile -> CBOR)와 같아야, Accept가 여러 표현을 허용할 때 컨버터와 같은 표현을 고릅니다.
+     */
+    private static final List<MediaType> REPRESENTATIONS = List.of(
+            MediaType.APPLICATION_JSON, new MediaType("application", "x-jackson-smile"), MediaType.APPLICATION_CBOR);
 
     /**
      * 문제:
      * 1. API 엔드포인트가 REST 원칙을 준수하지 않고 있습니다.
-     * 2. 응답 시 도메인 Entity를 직접 반환하고 있습니다.
      * 원인:
      * 1. URI가 리소스 중심이 아닌 동작 중심으로 설계됨(URI에 get, by 동사형태의 단어가 사용됨)
-     * 2. Service 레이어에서 반환한 Entity를 그대로 응답으로 사용
      * 개선안:
      * 1. URI를 리소스 중심으로 재설계(예: /get/product/by/{productId} -> /products/{productId})
-     * 2. 응답용 모델 객체를 별도로 설계하여 도메인 Entity와 분리, Controller에서는 응답용 모델을 반환하도록 수정
      */
     @GetMapping(value = "/get/product/by/{productId}")
-    public ResponseEntity<Product> getProductById(@PathVariable(name = "productId") Long productId){
-        Product product = productService.getProductById(productId);
+    public ResponseEntity<ProductResponse> getProductById(@PathVariable(name = "productId") Long productId, NativeWebRequest webRequest){
+        ProductResponse product = productService.getProduct(productId);
+        if (checkNotModified(webRequest, productETag(product, webRequest))) {
+            return null;
+        }
         return ResponseEntity.ok(product);
     }
 
+    /**
+     * 상품 ETag: ID, 버전과 응답 표현으로 구성한 strong ETag. (예: "12-3-json")
+     * 캐시/인덱스에 적재된 응답의 버전으로 비교하므로, 일치 시 DB 조회와 본문 직렬화 없이 304를 응답합니다.
+     */
+    private String productETag(ProductResponse product, NativeWebRequest webRequest) {
+        return "\"" + product.id() + "-" + product.version() + "-" + representation(webRequest) + "\"";
+    }
+
+    /**
+     * 응답 표현 이름(json, x-jackson-smile, cbor).
+     * strong ETag는 바이트 단위로 같은 표현에만 같은 값을 써야 하므로, JSON/CBOR/Smile 응답의 ETag를 표현별로 구분합니다.
+     * 본문을 직렬화하기 전에 304 여부를 판단해야 하므로, 컨버터 선택과 같은 방식(Accept 해석과 구체성 정렬)으로 표현을 미리 고릅니다.
+     */
+    private String representation(NativeWebRequest webRequest) {
+        List<MediaType> acceptable;
+        try {
+            acceptable = contentNegotiationManager.resolveMediaTypes(webRequest);
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            acceptable = List.of(MediaType.ALL);
+        }
+        List<MediaType> candidates = new ArrayList<>();
+        for (MediaType accept : acceptable) {
+            for (MediaType representation : REPRESENTATIONS) {
+                if (accept.isCompatibleWith(representation)) {
+                    candidates.add(representation);
+                }
+            }
+        }
+        MimeTypeUtils.sortBySpecificity(candidates);
+        return candidates.isEmpty() ? MediaType.APPLICATION_JSON.getSubtype() : candidates.get(0).getSubtype();
+    }
+
+    /**
+     * ETag가 표현별로 다르므로, 캐시가 표현별(Accept)로 저장하고 재검증하도록 Vary를 함께 지정합니다. (304 응답 포함)
+     */
+    private static boolean checkNotModified(NativeWebRequest webRequest, String etag) {
+        HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
+        if (response != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        return webRequest.checkNotModified(etag);
+    }
+
+    /**
+     * 다건 조회. 요청 ID 순서대로 응답하며, 존재하지 않는 상품은 missing 항목으로 표시합니다.
+     * ID 목록이 길어질 수 있어 쿼리 파라미터 대신 요청 본문으로 전달받습니다.
+     */
+    @PostMapping(value = "/product/batch")
+    public ResponseEntity<ProductBatchResponse> getProductsByIds(@RequestBody GetProductBatchRequest dto){
+        return ResponseEntity.ok(productService.getProducts(dto));
+    }
+
     /**
      * 문제:
      * 1. API 엔드포인트가 REST 원칙을 준수하지 않고 있습니다.
@@ -74,13 +163,45 @@ public class ProductController {
      * 3-1. DTO 클래스에 @Valid 어노테이션을 추가하고, 필요한 필드에 제약 조건을 설정하여 요청값 검증 강화(예: name, category 필드에 NotNull, NotBlank 등 추가)
      * 3-2. 컨트롤러 메서드 파라미터에 @Valid 어노테이션 추가 및 Errors 파라미터 추가하여 검증 결과 처리
      * 3-3. GlobalExceptionHandler 혹은 별도 ExceptionHandler에서 MethodArgumentNotValidException 처리 로직 추가
+     *
+     * write-behind가 켜져 있으면 202 Accepted로 응답합니다. 응답의 ID는 예약된 값이며 상품은 아직 영속화되지 않았습니다.
+     * 버퍼의 배치가 커밋되기 전까지(최대 flush-interval) 조회/목록에 보이지 않고, 그 전에 프로세스가 비정상 종료되면 유실됩니다.
      */
     @PostMapping(value = "/create/product")
     public ResponseEntity<Product> createProduct(@RequestBody CreateProductRequest dto){
         Product product = productService.create(dto);
+        if (productService.isCreateDeferred()) {
+            return ResponseEntity.accepted().body(product);
+        }
         return ResponseEntity.ok(product);
     }
 
+    /**
+     * 대량 등록. 요청 배열 전체를 하나의 트랜잭션에서 JDBC 배치 INSERT로 처리합니다.
+     */
+    @PostMapping(value = "/create/product/bulk")
+    public ResponseEntity<BulkCreateProductResponse> createProducts(@RequestBody List<CreateProductRequest> dtos){
+        return ResponseEntity.ok(productService.createAll(dtos));
+    }
+
+    /**
+     * 상품 가져오기. 요청 본문(NDJSON 또는 헤더 행이 있는 CSV)을 스트리밍으로 읽어 chunk 단위로 커밋합니다.
+     * 문법 오류로 중단된 경우 400과 함께 오류 이전까지 가져온/제외된 row 수, 오류 위치를 응답합니다.
+     */
+    @PostMapping(value = "/product/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ImportProductResponse> importProductsFromNdjson(InputStream body) throws IOException {
+        return importResult(productImportService.importProducts(body, ProductImportService.Format.NDJSON));
+    }
+
+    @PostMapping(value = "/product/import", consumes = "text/csv")
+    public ResponseEntity<ImportProductResponse> importProductsFromCsv(InputStream body) throws IOException {
+        return importResult(productImportService.importProducts(body, ProductImportService.Format.CSV));
+    }
+
+    private static ResponseEntity<ImportProductResponse> importResult(ImportProductResponse result) {
+        return result.error() == null ? ResponseEntity.ok(result) : ResponseEntity.badRequest().body(result);
+    }
+
     /**
      * 문제:
      * 1. API 엔드포인트가 REST 원칙을 준수하지 않고 있습니다.
@@ -112,22 +233,61 @@ public class ProductController {
      * 3-1. DTO 클래스에 @Valid 어노테이션을 추가하고, 필요한 필드에 제약 조건을 설정하여 요청값 검증 강화(예: name, category 필드에 NotNull, NotBlank 등 추가)
      * 3-2. 컨트롤러 메서드 파라미터에 @Valid 어노테이션 추가 및 Errors 파라미터 추가하여 검증 결과 처리
      * 3-3. GlobalExceptionHandler 혹은 별도 ExceptionHandler에서 MethodArgumentNotValidException 처리 로직 추가
+     *
+     * If-Match가 없으면 조건 없이 수정하며, 조회 이후 다른 수정이 커밋된 경우 409로 응답합니다.
+     * If-Match가 있으면 버전이 다르거나(ETag) 상품이 없는 경우(*) 412로 응답합니다.
      */
     @PostMapping(value = "/update/product")
-    public ResponseEntity<Product> updateProduct(@RequestBody UpdateProductRequest dto){
-        Product product = productService.update(dto);
-        return ResponseEntity.ok(product);
+    public ResponseEntity<ProductResponse> updateProduct(@RequestBody UpdateProductRequest dto,
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                         NativeWebRequest webRequest){
+        ProductResponse product;
+        if (ifMatch == null) {
+            product = ProductResponse.from(productService.update(dto));
+        } else if ("*".equals(ifMatch.trim())) {
+            product = ProductResponse.from(productService.updateIfExists(dto));
+        } else {
+            product = productService.updateIfMatch(dto, ifMatchVersion(dto.getId(), ifMatch));
+        }
+        return ResponseEntity.ok().eTag(productETag(product, webRequest)).body(product);
+    }
+
+    /**
+     * 부분 수정. 전달된 필드만 변경하고 수정된 행 수를 반환합니다. (이름만 바꾸는 경우 사전 조회 없이 단일 UPDATE)
+     */
+    @PatchMapping(value = "/product/{productId}")
+    public ResponseEntity<PatchProductResponse> patchProduct(@PathVariable(name = "productId") Long productId,
+                                                             @RequestBody PatchProductRequest dto){
+        return ResponseEntity.ok(new PatchProductResponse(productService.patch(productId, dto)));
+    }
+
+    /**
+     * If-Match 값에서 버전을 추출합니다. 이 상품의 strong ETag 형식이 아니면 현재 상태와 일치할 수 없으므로 412로 응답합니다.
+     * 수정 조건은 표현이 아닌 상품 버전이므로, 어느 표현으로 조회한 ETag든 같은 버전이면 일치로 봅니다.
+     */
+    private static long ifMatchVersion(Long productId, String ifMatch) {
+        Assert.notNull(productId, "id must not be null");
+        String etag = ifMatch.trim();
+        String prefix = "\"" + productId + "-";
+        if (etag.startsWith(prefix) && etag.endsWith("\"") && etag.length() > prefix.length() + 1) {
+            String value = etag.substring(prefix.length(), etag.length() - 1);
+            int representation = value.indexOf('-');
+            try {
+                return Long.parseLong(representation < 0 ? value : value.substring(0, representation));
+            } catch (NumberFormatException ignored) {
+                // 아래에서 412 처리
+            }
+        }
+        throw new OptimisticLockingFailureException("If-Match does not match product :: " + productId);
     }
 
     /**
      * 문제:
      * 1. API 엔드포인트가 REST 원칙을 준수하지 않고 있습니다.
-     * 2. 응답 시 도메인 Entity를 직접 반환하고 있습니다.
      * 원인:
      * 1-1  URI가 리소스 중심이 아닌 동작 중심으로 설계됨(URI에 list 등 동사형태의 단어가 사용됨)
      * 1-2. HttpMethod가 RESTFUL 원칙과 다르게 사용됨(조회 작업임에도 불구하고 POST 메서드를 사용)
      * 1-3. 쿼리 파라미터를 사용하지 않고, POST 요청의 Body로 전달받아 조회 작업을 수행
-     * 2. Service 레이어에서 반환한 Entity를 그대로 응답으로 사용
      * 개선안:
      * 1-1. URI를 리소스 중심으로 재설계(예: /product/list -> /products)
      * 1-2. POST 요청의 Body가 아닌 쿼리 파라미터로 전달받아 조회 작업 수행(예: /products?category={category}&page={page}&size={size} 형태로 변경)
@@ -135,14 +295,47 @@ public class ProductController {
      * 1-4. @RequestBody를 제거하고 쿼리 파라미터로 전달받도록 수정
      * 1-5 페이지네이션 관련 파라미터는 기본값을 설정하여 클라이언트가 전달하지 않을 경우에도 동작하도록 개선
      * 1-6 Category값의 필수 여부에 따라 별도의 검증 로직 혹은 필수값 적용 추가 고려
-     * 2. Page 내 Content에 사용할 응답용 모델 객체를 별도로 설계하여 도메인 Entity와 분리, Service 레이어에서 응답용 모델로 변경하도록 수정
      */
     @PostMapping(value = "/product/list")
     public ResponseEntity<ProductListResponse> getProductListByCategory(@RequestBody GetProductListRequest dto){
-        Page<Product> productList = productService.getListByCategory(dto);
+        Page<ProductResponse> productList = productService.getListByCategory(dto);
         return ResponseEntity.ok(new ProductListResponse(productList.getContent(), productList.getTotalPages(), productList.getTotalElements(), productList.getNumber()));
     }
 
+    /**
+     * 커서 기반 목록 조회.
+     * 응답의 nextCursor를 다음 요청의 after로 전달하면 이어지는 페이지를 조회하며, 페이지 깊이와 무관하게 조회 비용이 일정합니다.
+     */
+    @PostMapping(value = "/product/list/cursor")
+    public ResponseEntity<ProductCursorListResponse> getProductListByCategoryAfter(@RequestBody GetProductCursorListRequest dto){
+        return ResponseEntity.ok(productService.getListByCategoryAfter(dto));
+    }
+
+    /**
+     * 상품명 검색 (타이핑 중 자동완성 등).
+     * mode=PREFIX(기본) : 상품명이 q로 시작하는 상품, mode=CONTAINS : 상품명에 q가 포함된 상품
+     */
+    @GetMapping(value = "/product/search")
+    public ResponseEntity<List<ProductResponse>> searchProducts(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "mode", defaultValue = "PREFIX") ProductSearchMode mode,
+            @RequestParam(name = "size", defaultValue = "20") int size){
+        return ResponseEntity.ok(productSearchService.search(query, mode, size));
+    }
+
+    /**
+     * 전체 카탈로그 NDJSON 내보내기.
+     * 응답을 버퍼링하지 않고 조회와 동시에 출력 스트림으로 전송합니다.
+     * 압축은 직접 하지 않고 서버 응답 압축(server.compression)에 맡기므로, Accept-Encoding의 q 값(gzip;q=0 등) 해석과 Vary 헤더도 서버가 처리합니다.
+     */
+    @GetMapping(value = "/product/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportProducts(){
+        StreamingResponseBody body = productExportService::exportTo;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * 문제:
      * 1. API 엔드포인트가 REST 원칙을 준수하지 않고 있습니다.
@@ -152,8 +345,19 @@ public class ProductController {
      * 1. URI를 리소스 중심으로 재설계(예: /product/category/list -> /products/categories/)
      */
     @GetMapping(value = "/product/category/list")
-    public ResponseEntity<List<String>> getProductListByCategory(){
+    public ResponseEntity<List<String>> getProductListByCategory(NativeWebRequest webRequest){
+        if (checkNotModified(webRequest, "\"" + productService.getUniqueCategoriesVersion() + "-" + representation(webRequest) + "\"")) {
+            return null;
+        }
         List<String> uniqueCategories = productService.getUniqueCategories();
         return ResponseEntity.ok(uniqueCategories);
     }
-}
\ No newline at end of file
+
+    /**
+     * 카테고리별 상품 수. 인메모리 집계값을 반환하므로 짧은 주기로 polling해도 DB 부하가 없습니다.
+     */
+    @GetMapping(value = "/product/category/stats")
+    public ResponseEntity<List<CategoryCountResponse>> getCategoryStats() {
+        return ResponseEntity.ok(productService.getCategoryStats());
+    }
+}
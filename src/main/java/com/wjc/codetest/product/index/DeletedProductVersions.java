@@ -0,0 +1,47 @@
+package com.wjc.codetest.product.index;
+
+import java.util.Arrays;
+
+/**
+ * 최근 삭제된 상품의 삭제 시점 버전 (인덱스용 tombstone).
+ * 커밋 이후 이벤트는 트랜잭션 간 도착 순서가 보장되지 않으므로, 삭제보다 늦게 도착한 이전 버전의 등록/수정 이벤트가
+ * 삭제된 상품을 인덱스에 되살리지 않도록 삭제 시점 버전을 보관합니다.
+ * 뒤늦은 이벤트는 삭제 직전에 커밋된 트랜잭션에서만 발생하므로 최근 capacity건만 보관하고, 오래된 항목부터 버립니다.
+ * 버전은 박싱 없이 LongLongMap에 보관하며, 삭제 기록이 없으면 NONE을 반환합니다. (상품 버전은 0부터 시작)
+ * 동기화하지 않으므로 외부에서 잠금이 필요합니다.
+ */
+final class DeletedProductVersions {
+
+    static final long NONE = -1L;
+
+    private final LongLongMap versions;
+    private final long[] order;
+    private int next;
+
+    DeletedProductVersions(int capacity) {
+        this.versions = new LongLongMap(capacity, NONE);
+        this.order = new long[capacity];
+    }
+
+    long get(long productId) {
+        return versions.get(productId);
+    }
+
+    void put(long productId, long version) {
+        if (versions.put(productId, version) != NONE) {
+            return;
+        }
+        long evicted = order[next];
+        if (evicted != 0L) {
+            versions.remove(evicted);
+        }
+        order[next] = productId;
+        next = (next + 1) % order.length;
+    }
+
+    void clear() {
+        versions.clear();
+        Arrays.fill(order, 0L);
+        next = 0;
+    }
+}
@@ -0,0 +1,7 @@
+package com.wjc.codetest.product.index;
+
+/**
+ * 인덱스에 보관하는 상품 레코드. 카테고리는 사전(dictionary) 번호로만 보관하고, 버전은 박싱하지 않습니다. (응답 변환 시에만 Long)
+ */
+record IndexedProduct(int categoryId, String name, long version) {
+}
@@ -0,0 +1,161 @@
+package com.wjc.codetest.product.index;
+
+import java.util.Arrays;
+
+/**
+ * long 키 -> long 값 전용 open addressing(선형 탐사) 해시 맵. LongObjectMap과 같은 구조이며 값도 long[]에 그대로 저장하므로,
+ * 값 박싱(Long) 없이 키/값 배열 두 개만 사용합니다.
+ * 없는 키의 조회/삭제 결과는 생성 시 지정한 missingValue로 표시하므로, missingValue는 값으로 저장할 수 없는 값이어야 합니다.
+ * 키 0은 빈 슬롯 표시로 사용하므로 저장할 수 없습니다. 동기화하지 않으므로 외부에서 잠금이 필요합니다.
+ */
+final class LongLongMap {
+
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final long missingValue;
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int resizeThreshold;
+    private int size;
+
+    LongLongMap(int expectedSize, long missingValue) {
+        this.missingValue = missingValue;
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * @return 값. 없으면 missingValue
+     */
+    long get(long key) {
+        checkKey(key);
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) {
+                return values[slot];
+            }
+            if (current == EMPTY) {
+                return missingValue;
+            }
+        }
+    }
+
+    /**
+     * @return 이전 값. 없으면 missingValue
+     */
+    long put(long key, long value) {
+        checkKey(key);
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) {
+                long previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            if (current == EMPTY) {
+                keys[slot] = key;
+                values[slot] = value;
+                if (++size > resizeThreshold) {
+                    rehash(keys.length << 1);
+                }
+                return missingValue;
+            }
+        }
+    }
+
+    /**
+     * @return 제거한 값. 없으면 missingValue
+     */
+    long remove(long key) {
+        checkKey(key);
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == EMPTY) {
+                return missingValue;
+            }
+            if (current == key) {
+                long previous = values[slot];
+                shiftBack(slot);
+                size--;
+                return previous;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    /**
+     * 비워진 슬롯 이후의 탐사 구간에서, 원래 위치(ideal slot)가 빈 슬롯 쪽에 있는 항목을 앞으로 당깁니다. (LongObjectMap.shiftBack과 동일)
+     */
+    private void shiftBack(int emptied) {
+        int slot = emptied;
+        while (true) {
+            slot = (slot + 1) & mask;
+            long key = keys[slot];
+            if (key == EMPTY) {
+                break;
+            }
+            int ideal = slot(key);
+            boolean reachable = emptied <= slot
+                    ? emptied < ideal && ideal <= slot
+                    : emptied < ideal || ideal <= slot;
+            if (!reachable) {
+                keys[emptied] = key;
+                values[emptied] = values[slot];
+                emptied = slot;
+            }
+        }
+        keys[emptied] = EMPTY;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != EMPTY) {
+                int slot = slot(key);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long required = (long) Math.ceil(Math.max(expectedSize, 2) / LOAD_FACTOR);
+        if (required > (1 << 30)) {
+            throw new IllegalArgumentException("expected size too large: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) required - 1) << 1;
+    }
+
+    private static void checkKey(long key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("key 0 is reserved");
+        }
+    }
+}
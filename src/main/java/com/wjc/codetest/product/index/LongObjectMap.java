@@ -0,0 +1,161 @@
+package com.wjc.codetest.product.index;
+
+import java.util.Arrays;
+
+/**
+ * long 키 전용 open addressing(선형 탐사) 해시 맵.
+ * 키를 long[]에 그대로 저장하므로 HashMap<Long, V> 대비 키 박싱과 엔트리 객체 할당이 없습니다.
+ * 삭제 시 tombstone을 남기지 않고 뒤따르는 항목을 당겨 채워(backward shift) 탐사 길이가 늘어나지 않도록 합니다.
+ * 키 0은 빈 슬롯 표시로 사용하므로 저장할 수 없습니다. 동기화하지 않으므로 외부에서 잠금이 필요합니다.
+ */
+public final class LongObjectMap<V> {
+
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int resizeThreshold;
+    private int size;
+
+    public LongObjectMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        checkKey(key);
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) {
+                return (V) values[slot];
+            }
+            if (current == EMPTY) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * @return 이전 값. 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        checkKey(key);
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            if (current == EMPTY) {
+                keys[slot] = key;
+                values[slot] = value;
+                if (++size > resizeThreshold) {
+                    rehash(keys.length << 1);
+                }
+                return null;
+            }
+        }
+    }
+
+    /**
+     * @return 제거한 값. 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        checkKey(key);
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == EMPTY) {
+                return null;
+            }
+            if (current == key) {
+                V previous = (V) values[slot];
+                shiftBack(slot);
+                size--;
+                return previous;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * 비워진 슬롯 이후의 탐사 구간에서, 원래 위치(ideal slot)가 빈 슬롯 쪽에 있는 항목을 앞으로 당깁니다.
+     */
+    private void shiftBack(int emptied) {
+        int slot = emptied;
+        while (true) {
+            slot = (slot + 1) & mask;
+            long key = keys[slot];
+            if (key == EMPTY) {
+                break;
+            }
+            int ideal = slot(key);
+            boolean reachable = emptied <= slot
+                    ? emptied < ideal && ideal <= slot
+                    : emptied < ideal || ideal <= slot;
+            if (!reachable) {
+                keys[emptied] = key;
+                values[emptied] = values[slot];
+                emptied = slot;
+            }
+        }
+        keys[emptied] = EMPTY;
+        values[emptied] = null;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != EMPTY) {
+                int slot = slot(key);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long required = (long) Math.ceil(Math.max(expectedSize, 2) / LOAD_FACTOR);
+        if (required > (1 << 30)) {
+            throw new IllegalArgumentException("expected size too large: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) required - 1) << 1;
+    }
+
+    private static void checkKey(long key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("key 0 is reserved");
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.wjc.codetest.product.index;
+
+import com.wjc.codetest.product.config.ProductIndexProperties;
+import com.wjc.codetest.product.model.event.ProductChangedEvent;
+import com.wjc.codetest.product.model.event.ProductsCreatedEvent;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import com.wjc.codetest.product.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 상품 테이블 전체를 메모리에 올린 읽기 전용 인덱스. (product.index.enabled=true 인 경우에만 적재)
+ * - 카테고리 사전: 카테고리 문자열 <-> int 번호
+ * - 카테고리 번호별 상품 ID 목록: SortedLongArray (ID 오름차순)
+ * - 상품 ID -> 상품 레코드: LongObjectMap (카테고리는 번호로만 보관)
+ * 기동 시 전체 상품을 한 번 적재하고, 이후에는 ProductChangedEvent(커밋 이후)로 증분 갱신합니다.
+ *
+ * 조회는 읽기 잠금, 변경은 쓰기 잠금으로 보호합니다. 쓰기는 조회 대비 빈도가 낮고 배열 이동 외의 I/O가 없어 잠금 구간이 짧습니다.
+ * 커밋 이후 반영되므로 쓰기 직후 짧은 시간 동안 이전 상태가 조회될 수 있습니다.
+ *
+ * 커밋 이후 이벤트는 트랜잭션 간 도착 순서가 보장되지 않으므로, 보관한 버전보다 새로운 버전의 이벤트만 반영합니다.
+ * (삭제는 버전을 올리지 않으므로 같은 버전이면 반영) 삭제된 상품은 DeletedProductVersions에 삭제 시점 버전을 남겨,
+ * 뒤늦게 도착한 이전 버전의 이벤트가 상품을 되살리지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class ProductIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int DELETED_CAPACITY = 4096;
+
+    private final boolean enabled;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> categoryIds = new HashMap<>();
+    private final List<String> categoryNames = new ArrayList<>();
+    private final List<SortedLongArray> productIdsByCategory = new ArrayList<>();
+    private final LongObjectMap<IndexedProduct> products = new LongObjectMap<>(INITIAL_CAPACITY);
+    private final DeletedProductVersions deleted = new DeletedProductVersions(DELETED_CAPACITY);
+
+    public ProductIndex(ProductIndexProperties properties, ProductRepository productRepository,
+                        PlatformTransactionManager transactionManager) {
+        this.enabled = properties.enabled();
+        this.productRepository = productRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PostConstruct
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            categoryIds.clear();
+            categoryNames.clear();
+            productIdsByCategory.clear();
+            products.clear();
+            deleted.clear();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<ProductResponse> rows = productRepository.streamAllResponses()) {
+                    rows.forEach(row -> add(row.id(), row.category(), row.name(), row.version()));
+                }
+            });
+            productIdsByCategory.forEach(SortedLongArray::trimToSize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("product index loaded :: {} products, {} categories", products.size(), categoryNames.size());
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    public Optional<ProductResponse> find(long productId) {
+        lock.readLock().lock();
+        try {
+            IndexedProduct product = products.get(productId);
+            return product == null ? Optional.empty() : Optional.of(toResponse(productId, product));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long count(String category) {
+        lock.readLock().lock();
+        try {
+            SortedLongArray ids = productIds(category);
+            return ids == null ? 0 : ids.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 카테고리 내 ID 오름차순 offset번째부터 최대 limit건
+     */
+    public List<ProductResponse> findByCategory(String category, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            SortedLongArray ids = productIds(category);
+            if (ids == null || offset >= ids.size()) {
+                return Collections.emptyList();
+            }
+            return slice(ids, (int) offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 카테고리 내 ID가 after보다 큰 상품을 ID 오름차순으로 최대 limit건
+     */
+    public List<ProductResponse> findByCategoryAfter(String category, long after, int limit) {
+        lock.readLock().lock();
+        try {
+            SortedLongArray ids = productIds(category);
+            if (ids == null) {
+                return Collections.emptyList();
+            }
+            return slice(ids, ids.indexAfter(after), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsCreated(ProductsCreatedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            event.products().forEach(this::apply);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(ProductChangedEvent event) {
+        long productId = event.productId();
+        if (!isNewer(productId, event)) {
+            return;
+        }
+        switch (event.type()) {
+            case CREATED, UPDATED, PATCHED -> {
+                remove(productId);
+                add(productId, event.category(), event.name(), event.version());
+            }
+            case DELETED -> {
+                remove(productId);
+                deleted.put(productId, event.version());
+            }
+        }
+    }
+
+    private boolean isNewer(long productId, ProductChangedEvent event) {
+        IndexedProduct current = products.get(productId);
+        long known = current != null ? current.version() : deleted.get(productId);
+        if (known == DeletedProductVersions.NONE) {
+            return true;
+        }
+        long version = event.version();
+        return event.type() == ProductChangedEvent.Type.DELETED ? version >= known : version > known;
+    }
+
+    private void add(long productId, String category, String name, long version) {
+        int categoryId = categoryIds.computeIfAbsent(category, key -> {
+            categoryNames.add(key);
+            productIdsByCategory.add(new SortedLongArray());
+            return categoryNames.size() - 1;
+        });
+        productIdsByCategory.get(categoryId).add(productId);
+        products.put(productId, new IndexedProduct(categoryId, name, version));
+    }
+
+    private void remove(long productId) {
+        IndexedProduct removed = products.remove(productId);
+        if (removed != null) {
+            productIdsByCategory.get(removed.categoryId()).remove(productId);
+        }
+    }
+
+    private SortedLongArray productIds(String category) {
+        Integer categoryId = categoryIds.get(category);
+        return categoryId == null ? null : productIdsByCategory.get(categoryId);
+    }
+
+    private List<ProductResponse> slice(SortedLongArray ids, int from, int limit) {
+        int to = (int) Math.min((long) from + limit, ids.size());
+        List<ProductResponse> result = new ArrayList<>(Math.max(to - from, 0));
+        for (int i = from; i < to; i++) {
+            long productId = ids.get(i);
+            result.add(toResponse(productId, products.get(productId)));
+        }
+        return result;
+    }
+
+    private ProductResponse toResponse(long productId, IndexedProduct product) {
+        return new ProductResponse(productId, categoryNames.get(product.categoryId()), product.name(), product.version());
+    }
+}
@@ -0,0 +1,288 @@
+package com.wjc.codetest.product.index;
+
+import com.wjc.codetest.product.config.ProductSearchProperties;
+import com.wjc.codetest.product.model.event.ProductChangedEvent;
+import com.wjc.codetest.product.model.event.ProductsCreatedEvent;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import com.wjc.codetest.product.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 상품명 검색용 인메모리 인덱스. (product.search.enabled=true 인 경우에만 적재)
+ * - 접두어 검색: 정규화(소문자)한 상품명 -> 상품 ID 목록의 정렬 맵. 접두어 구간(subMap)만 순회합니다.
+ *   정렬된 이름 배열 대신 TreeMap을 사용합니다. 인덱스를 이벤트마다 증분 갱신하므로, 배열은 등록/수정마다 O(n) 이동이 필요합니다.
+ * - 부분 문자열 검색: 상품명의 모든 3-gram -> 상품 ID 목록(posting). 검색어의 3-gram posting 교집합으로 후보를 좁힌 뒤
+ *   실제 상품명에 검색어가 포함되는지 확인합니다. 3글자 미만 검색어는 3-gram이 없으므로 상품명 전체를 순회합니다.
+ * 기동 시 전체 상품을 한 번 적재하고, 이후에는 ProductChangedEvent(커밋 이후)로 증분 갱신합니다.
+ * 조회는 읽기 잠금, 변경은 쓰기 잠금으로 보호합니다.
+ * 이벤트 도착 순서와 무관하도록 ProductIndex와 같이 보관한 버전보다 새로운 이벤트만 반영하고, 삭제된 상품의 버전을 남깁니다.
+ */
+@Slf4j
+@Component
+public class ProductNameIndex {
+
+    private static final int GRAM = 3;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int DELETED_CAPACITY = 4096;
+
+    private final boolean enabled;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final TreeMap<String, SortedLongArray> productIdsByName = new TreeMap<>();
+    private final LongObjectMap<SortedLongArray> productIdsByTrigram = new LongObjectMap<>(INITIAL_CAPACITY);
+    private final LongObjectMap<ProductResponse> products = new LongObjectMap<>(INITIAL_CAPACITY);
+    private final DeletedProductVersions deleted = new DeletedProductVersions(DELETED_CAPACITY);
+
+    public ProductNameIndex(ProductSearchProperties properties, ProductRepository productRepository,
+                            PlatformTransactionManager transactionManager) {
+        this.enabled = properties.enabled();
+        this.productRepository = productRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PostConstruct
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            productIdsByName.clear();
+            productIdsByTrigram.clear();
+            products.clear();
+            deleted.clear();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<ProductResponse> rows = productRepository.streamAllResponses()) {
+                    rows.forEach(this::add);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("product name index loaded :: {} products, {} distinct names", products.size(), productIdsByName.size());
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * 상품명이 prefix로 시작하는 상품을 상품명 순(동일 이름은 ID 순)으로 최대 limit건
+     */
+    public List<ProductResponse> searchPrefix(String prefix, int limit) {
+        String key = normalize(prefix);
+        lock.readLock().lock();
+        try {
+            List<ProductResponse> result = new ArrayList<>(Math.min(limit, 64));
+            for (SortedLongArray ids : productIdsByName.subMap(key, true, key + Character.MAX_VALUE, false).values()) {
+                for (int i = 0; i < ids.size() && result.size() < limit; i++) {
+                    result.add(products.get(ids.get(i)));
+                }
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상품명에 query가 포함된 상품을 ID 순으로 최대 limit건
+     */
+    public List<ProductResponse> searchContains(String query, int limit) {
+        String key = normalize(query);
+        lock.readLock().lock();
+        try {
+            if (key.length() < GRAM) {
+                return scanNames(key, limit);
+            }
+            List<SortedLongArray> postings = new ArrayList<>(key.length() - GRAM + 1);
+            SortedLongArray smallest = null;
+            for (int i = 0; i + GRAM <= key.length(); i++) {
+                SortedLongArray posting = productIdsByTrigram.get(trigram(key, i));
+                if (posting == null) {
+                    return List.of();
+                }
+                postings.add(posting);
+                if (smallest == null || posting.size() < smallest.size()) {
+                    smallest = posting;
+                }
+            }
+            List<ProductResponse> result = new ArrayList<>(Math.min(limit, 64));
+            for (int i = 0; i < smallest.size() && result.size() < limit; i++) {
+                long productId = smallest.get(i);
+                if (containsAll(postings, productId)) {
+                    ProductResponse product = products.get(productId);
+                    if (normalize(product.name()).contains(key)) {
+                        result.add(product);
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 3-gram을 만들 수 없는 짧은 검색어. 서로 다른 상품명 전체를 순회하여 포함 여부를 확인하고,
+     * 일치한 상품 중 ID가 가장 작은 limit건만 최대 힙으로 유지합니다. (DB의 LIKE '%q%'와 같은 전체 스캔 비용)
+     */
+    private List<ProductResponse> scanNames(String key, int limit) {
+        PriorityQueue<Long> smallestIds = new PriorityQueue<>(limit, Comparator.reverseOrder());
+        for (Map.Entry<String, SortedLongArray> entry : productIdsByName.entrySet()) {
+            if (!entry.getKey().contains(key)) {
+                continue;
+            }
+            SortedLongArray ids = entry.getValue();
+            for (int i = 0; i < ids.size(); i++) {
+                long productId = ids.get(i);
+                if (smallestIds.size() < limit) {
+                    smallestIds.add(productId);
+                } else if (productId < smallestIds.peek()) {
+                    smallestIds.poll();
+                    smallestIds.add(productId);
+                } else {
+                    break;
+                }
+            }
+        }
+        long[] ids = smallestIds.stream().mapToLong(Long::longValue).sorted().toArray();
+        List<ProductResponse> result = new ArrayList<>(ids.length);
+        for (long productId : ids) {
+            result.add(products.get(productId));
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsCreated(ProductsCreatedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            event.products().forEach(this::apply);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(ProductChangedEvent event) {
+        long productId = event.productId();
+        if (!isNewer(productId, event)) {
+            return;
+        }
+        switch (event.type()) {
+            case CREATED, UPDATED, PATCHED -> {
+                remove(productId);
+                add(new ProductResponse(productId, event.category(), event.name(), event.version()));
+            }
+            case DELETED -> {
+                remove(productId);
+                deleted.put(productId, event.version());
+            }
+        }
+    }
+
+    private boolean isNewer(long productId, ProductChangedEvent event) {
+        ProductResponse current = products.get(productId);
+        long known = current != null ? current.version() : deleted.get(productId);
+        if (known == DeletedProductVersions.NONE) {
+            return true;
+        }
+        long version = event.version();
+        return event.type() == ProductChangedEvent.Type.DELETED ? version >= known : version > known;
+    }
+
+    private void add(ProductResponse product) {
+        long productId = product.id();
+        products.put(productId, product);
+        if (product.name() == null) {
+            return;
+        }
+        String name = normalize(product.name());
+        productIdsByName.computeIfAbsent(name, key -> new SortedLongArray(1)).add(productId);
+        for (int i = 0; i + GRAM <= name.length(); i++) {
+            long trigram = trigram(name, i);
+            SortedLongArray posting = productIdsByTrigram.get(trigram);
+            if (posting == null) {
+                posting = new SortedLongArray(4);
+                productIdsByTrigram.put(trigram, posting);
+            }
+            posting.add(productId);
+        }
+    }
+
+    private void remove(long productId) {
+        ProductResponse removed = products.remove(productId);
+        if (removed == null || removed.name() == null) {
+            return;
+        }
+        String name = normalize(removed.name());
+        SortedLongArray ids = productIdsByName.get(name);
+        if (ids != null && ids.remove(productId) && ids.isEmpty()) {
+            productIdsByName.remove(name);
+        }
+        for (int i = 0; i + GRAM <= name.length(); i++) {
+            long trigram = trigram(name, i);
+            SortedLongArray posting = productIdsByTrigram.get(trigram);
+            if (posting != null && posting.remove(productId) && posting.isEmpty()) {
+                productIdsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    private static boolean containsAll(List<SortedLongArray> postings, long productId) {
+        for (SortedLongArray posting : postings) {
+            if (!posting.contains(productId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 3개의 char(16bit)를 하나의 long 키로 묶습니다. LongObjectMap은 키 0을 쓸 수 없으므로 49번째 비트를 항상 세웁니다.
+     */
+    private static long trigram(String name, int from) {
+        return 1L << 48 | (long) name.charAt(from) << 32 | (long) name.charAt(from + 1) << 16 | name.charAt(from + 2);
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
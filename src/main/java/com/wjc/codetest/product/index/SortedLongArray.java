@@ -0,0 +1,92 @@
+package com.wjc.codetest.product.index;
+
+import java.util.Arrays;
+
+/**
+ * 중복 없는 오름차순 long 배열.
+ * 박싱 없이 long[] 하나에 값을 연속 저장하며, 조회/삽입 위치는 이진 탐색으로 찾습니다.
+ * 오름차순으로 추가하면(예: ID 순 적재) 배열 끝에 붙으므로 상수 시간입니다.
+ * 동기화하지 않으므로 외부에서 잠금이 필요합니다.
+ */
+public final class SortedLongArray {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private long[] values;
+    private int size;
+
+    public SortedLongArray() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public SortedLongArray(int initialCapacity) {
+        this.values = new long[Math.max(initialCapacity, 1)];
+    }
+
+    /**
+     * @return 새로 추가한 경우 true, 이미 존재하면 false
+     */
+    public boolean add(long value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index >= 0) {
+            return false;
+        }
+        index = -index - 1;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length + (values.length >> 1) + 1);
+        }
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = value;
+        size++;
+        return true;
+    }
+
+    /**
+     * @return 제거한 경우 true, 존재하지 않으면 false
+     */
+    public boolean remove(long value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    public boolean contains(long value) {
+        return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " out of bounds for size " + size);
+        }
+        return values[index];
+    }
+
+    /**
+     * value보다 큰 첫 번째 값의 위치. 모두 value 이하이면 size()
+     */
+    public int indexAfter(long value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 대량 적재 후 여유 공간을 반환합니다.
+     */
+    public void trimToSize() {
+        if (values.length > size) {
+            values = Arrays.copyOf(values, Math.max(size, 1));
+        }
+    }
+}
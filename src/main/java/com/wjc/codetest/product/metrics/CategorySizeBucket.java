@@ -0,0 +1,36 @@
+package com.wjc.codetest.product.metrics;
+
+/**
+ * 카테고리 상품 수 구간. 메트릭 태그(category.size) 값으로 사용합니다.
+ */
+public enum CategorySizeBucket {
+    EMPTY(0),
+    SMALL(100),
+    MEDIUM(10_000),
+    LARGE(Long.MAX_VALUE);
+
+    /**
+     * 구간에 포함되는 상품 수 상한 (미만)
+     */
+    private final long upperBound;
+
+    CategorySizeBucket(long upperBound) {
+        this.upperBound = upperBound;
+    }
+
+    public static CategorySizeBucket of(long productCount) {
+        if (productCount <= 0) {
+            return EMPTY;
+        }
+        for (CategorySizeBucket bucket : values()) {
+            if (productCount < bucket.upperBound) {
+                return bucket;
+            }
+        }
+        return LARGE;
+    }
+
+    public String tagValue() {
+        return name().toLowerCase();
+    }
+}
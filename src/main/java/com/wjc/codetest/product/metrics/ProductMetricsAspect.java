@@ -0,0 +1,107 @@
+package com.wjc.codetest.product.metrics;
+
+import com.wjc.codetest.product.model.request.GetProductCursorListRequest;
+import com.wjc.codetest.product.model.request.GetProductListRequest;
+import com.wjc.codetest.product.service.CategoryDictionary;
+import com.wjc.codetest.product.service.CategoryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * ProductService / ProductRepository 호출 시간을 Timer로 기록합니다.
+ * - product.service    : ProductService public 메서드
+ * - product.repository : ProductRepository 메서드 (JpaRepository 상속 메서드 포함)
+ * 태그는 method, outcome(SUCCESS/ERROR), exception, category.size 입니다.
+ * category.size는 조회 대상 카테고리의 상품 수를 구간(bucket)으로 나눈 값으로, 카테고리 이름을 그대로 태그로 쓰지 않아 시계열 수를 제한합니다.
+ * 백분위 히스토그램 여부는 management.metrics.distribution.percentiles-histogram.* 설정으로 제어합니다.
+ */
+@Aspect
+@Component
+public class ProductMetricsAspect {
+
+    private static final String SERVICE_TIMER = "product.service";
+    private static final String REPOSITORY_TIMER = "product.repository";
+    private static final String NO_CATEGORY = "none";
+
+    private final MeterRegistry meterRegistry;
+    /**
+     * CategoryRegistry/CategoryDictionary는 기동 시 Repository를 사용하므로, 즉시 주입하면 Repository가 프록시 적용 전에 생성됩니다.
+     * 호출 시점에 조회하여 순환 생성을 피합니다.
+     */
+    private final ObjectProvider<CategoryRegistry> categoryRegistry;
+    private final ObjectProvider<CategoryDictionary> categoryDictionary;
+
+    public ProductMetricsAspect(MeterRegistry meterRegistry,
+                                ObjectProvider<CategoryRegistry> categoryRegistry,
+                                ObjectProvider<CategoryDictionary> categoryDictionary) {
+        this.meterRegistry = meterRegistry;
+        this.categoryRegistry = categoryRegistry;
+        this.categoryDictionary = categoryDictionary;
+    }
+
+    @Around("execution(public * com.wjc.codetest.product.service.ProductService.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, joinPoint);
+    }
+
+    @Around("target(com.wjc.codetest.product.repository.ProductRepository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_TIMER, joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "SUCCESS";
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = "ERROR";
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            String method = joinPoint.getSignature().getName();
+            sample.stop(Timer.builder(name)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .tag("category.size", categorySize(method, joinPoint.getArgs()))
+                    .register(meterRegistry));
+        }
+    }
+
+    private String categorySize(String method, Object[] args) {
+        String category = categoryOf(method, args);
+        if (category == null) {
+            return NO_CATEGORY;
+        }
+        return CategorySizeBucket.of(categoryRegistry.getObject().productCount(category)).tagValue();
+    }
+
+    /**
+     * 목록 요청 객체, 또는 *ByCategory* 조회 메서드의 첫 번째 카테고리 ID(Integer) 인자를 조회 대상 카테고리로 봅니다.
+     */
+    private String categoryOf(String method, Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof GetProductListRequest request) {
+                return request.getCategory();
+            }
+            if (arg instanceof GetProductCursorListRequest request) {
+                return request.getCategory();
+            }
+        }
+        if (method.contains("ByCategory")) {
+            for (Object arg : args) {
+                if (arg instanceof Integer categoryId) {
+                    return categoryDictionary.getObject().nameOf(categoryId);
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,87 @@
+package com.wjc.codetest.product.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 요청(스레드)에서 실행된 SQL 통계.
+ * QueryStatsFilter가 요청 시작 시 begin()으로 생성하고 종료 시 end()로 제거하며,
+ * 그 사이 같은 스레드에서 실행되는 JDBC 호출은 QueryStatsListener가 current()에 누적합니다.
+ * 요청 밖(기동, 스케줄러, 비동기 스트리밍 스레드 등)에서 실행된 SQL은 집계하지 않습니다.
+ */
+public final class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rows;
+    private long elapsedNanos;
+    private long queryStartedNanos;
+    private final Map<String, Integer> selectCounts = new HashMap<>();
+
+    private QueryStats() {
+    }
+
+    public static QueryStats begin() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void queryStarted() {
+        queryStartedNanos = System.nanoTime();
+    }
+
+    void queryFinished(String select, long affectedRows) {
+        statements++;
+        rows += affectedRows;
+        elapsedNanos += System.nanoTime() - queryStartedNanos;
+        if (select != null) {
+            selectCounts.merge(select, 1, Integer::sum);
+        }
+    }
+
+    void rowRead() {
+        rows++;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * 가장 많이 반복 실행된 조회 SQL. 없으면 null
+     */
+    public Map.Entry<String, Integer> mostRepeatedSelect() {
+        Map.Entry<String, Integer> max = null;
+        for (Map.Entry<String, Integer> entry : selectCounts.entrySet()) {
+            if (max == null || entry.getValue() > max.getValue()) {
+                max = entry;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Server-Timing 헤더 값 (예: db;dur=1.52;desc="3 statements, 20 rows")
+     */
+    public String serverTiming() {
+        return String.format("db;dur=%.2f;desc=\"%d statements, %d rows\"", elapsedNanos / 1_000_000.0, statements, rows);
+    }
+}
@@ -0,0 +1,31 @@
+package com.wjc.codetest.product.metrics;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource를 datasource-proxy로 감싸 모든 JDBC 실행을 QueryStatsListener로 전달합니다.
+ * 조회 행 수 집계를 위해 ResultSet도 프록시로 감쌉니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "product.query-stats", name = "enabled", havingValue = "true", matchIfMissing = true)
+class QueryStatsDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            QueryStatsListener listener = new QueryStatsListener();
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(listener)
+                    .methodListener(listener)
+                    .proxyResultSet()
+                    .build();
+        }
+        return bean;
+    }
+}
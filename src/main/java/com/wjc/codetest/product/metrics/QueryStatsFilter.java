@@ -0,0 +1,97 @@
+package com.wjc.codetest.product.metrics;
+
+import com.wjc.codetest.product.config.QueryStatsProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 요청 단위로 SQL 실행 통계를 수집합니다.
+ * 요청이 끝나면 핸들러(endpoint 태그)별로 http.server.requests.sql.* 메트릭을 기록하고,
+ * 실행 횟수가 예산(product.query-stats.*)을 넘거나 같은 조회 SQL이 반복되면(N+1 의심) 경고 로그를 남깁니다.
+ * 응답 헤더(Server-Timing)는 본문 기록 직전에 QueryStatsResponseAdvice가 추가하며, 본문이 없는 응답은 아직 커밋되지 않은 경우 여기서 추가합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "product.query-stats", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    private final QueryStatsProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public QueryStatsFilter(QueryStatsProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryStats stats = QueryStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+            if (!response.isCommitted() && !response.containsHeader(QueryStatsResponseAdvice.SERVER_TIMING)) {
+                response.setHeader(QueryStatsResponseAdvice.SERVER_TIMING, stats.serverTiming());
+            }
+        } finally {
+            QueryStats.end();
+            String endpoint = endpoint(request);
+            if (endpoint != null) {
+                record(endpoint, stats);
+                check(endpoint, stats);
+            }
+        }
+    }
+
+    private void record(String endpoint, QueryStats stats) {
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(stats.statements());
+        DistributionSummary.builder("http.server.requests.sql.rows")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(stats.rows());
+        Timer.builder("http.server.requests.sql.time")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(stats.elapsedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void check(String endpoint, QueryStats stats) {
+        int budget = properties.budgetFor(endpoint);
+        if (stats.statements() > budget) {
+            log.warn("sql budget exceeded :: endpoint :: {}, statements :: {}, budget :: {}, rows :: {}, dbTime :: {}ms",
+                    endpoint, stats.statements(), budget, stats.rows(), TimeUnit.NANOSECONDS.toMillis(stats.elapsedNanos()));
+        }
+        Map.Entry<String, Integer> repeated = stats.mostRepeatedSelect();
+        if (repeated != null && repeated.getValue() >= properties.repeatedQueryThreshold()) {
+            log.warn("possible N+1 :: endpoint :: {}, executions :: {}, sql :: {}",
+                    endpoint, repeated.getValue(), repeated.getKey());
+        }
+    }
+
+    /**
+     * 요청을 처리한 컨트롤러 메서드 ("ProductController.updateProduct"). 핸들러가 없는 요청(정적 리소스, 404 등)은 null
+     */
+    private static String endpoint(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            return handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,76 @@
+package com.wjc.codetest.product.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * datasource-proxy 리스너. 실행 중인 요청의 QueryStats에 실행 횟수, 처리 행 수, 실행 시간을 누적합니다.
+ * 배치 실행은 1회로 집계하고, 조회 행 수는 ResultSet.next()가 true를 반환한 횟수로 셉니다.
+ */
+class QueryStatsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.queryStarted();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryStats stats = QueryStats.current();
+        if (stats == null) {
+            return;
+        }
+        String select = null;
+        if (!execInfo.isBatch() && queryInfoList.size() == 1) {
+            String query = queryInfoList.get(0).getQuery();
+            if (QueryUtils.getQueryType(query) == QueryType.SELECT) {
+                select = query;
+            }
+        }
+        stats.queryFinished(select, affectedRows(execInfo.getResult()));
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && Boolean.TRUE.equals(executionContext.getResult())
+                && "next".equals(executionContext.getMethod().getName())) {
+            QueryStats stats = QueryStats.current();
+            if (stats != null) {
+                stats.rowRead();
+            }
+        }
+    }
+
+    private static long affectedRows(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof Long count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof int[] counts) {
+            long sum = 0;
+            for (int count : counts) {
+                sum += Math.max(count, 0);
+            }
+            return sum;
+        }
+        return 0;
+    }
+}
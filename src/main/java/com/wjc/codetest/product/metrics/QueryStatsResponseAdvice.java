@@ -0,0 +1,35 @@
+package com.wjc.codetest.product.metrics;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 기록하기 직전(헤더 확정 전)에 현재 요청의 SQL 통계를 Server-Timing 헤더로 추가합니다.
+ * 브라우저 개발자 도구의 Timing 탭이나 curl -i로 요청별 DB 시간/실행 횟수를 바로 확인할 수 있습니다.
+ */
+@ControllerAdvice(value = {"com.wjc.codetest.product.controller"})
+public class QueryStatsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            response.getHeaders().add(SERVER_TIMING, stats.serverTiming());
+        }
+        return body;
+    }
+}
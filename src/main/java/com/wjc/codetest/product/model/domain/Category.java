@@ -0,0 +1,37 @@
+package com.wjc.codetest.product.model.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 카테고리 사전(dictionary) 테이블.
+ * 상품 row마다 카테고리 문자열을 반복 저장하지 않고 작은 정수 ID(category_id)만 참조하도록 분리합니다.
+ * 등록 후 이름이 바뀌지 않는 불변 값으로 취급하며, 이름 <-> ID 변환은 CategoryDictionary가 메모리에서 처리합니다.
+ * 2차 캐시(l2cache 프로파일)에서는 수정되지 않으므로 READ_ONLY 전략으로 캐시합니다.
+ */
+@Entity
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "category")
+@Table(name = "category", uniqueConstraints = @UniqueConstraint(name = "uk_category_name", columnNames = "name"))
+@Getter
+public class Category {
+
+    @Id
+    @Column(name = "category_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    protected Category() {
+    }
+
+    public Category(String name) {
+        this.name = name;
+    }
+}
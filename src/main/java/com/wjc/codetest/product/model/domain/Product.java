@@ -1,8 +1,11 @@
 package com.wjc.codetest.product.model.domain;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 
 /**
@@ -21,33 +24,99 @@ import lombok.Setter;
  *    추후 확장을 고려하여 category와 name필드를 별도 테이블로 분리하여 정규화를 진행합니다.
  * 3. DB 제약조건과 일치하도록 필드에 대한 제약조건을 명확히 정의하여 사용하며(NotNull 등),
  *    DB제역조건이 없을경우 DB 설계 시 제약조건을 재 고려하여 설계에 반영하니다.
+ *
+ * 2차 캐시 설정(READ_WRITE)은 l2cache 프로파일에서만 동작하며, 기본 설정에서는 캐시 region이 만들어지지 않습니다.
+ * JPQL 벌크 UPDATE(PATCH, If-Match 수정)는 Hibernate가 product region 전체를 무효화합니다.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product")
+@Table(name = "product", indexes = {
+        // 카테고리 필터 + ID 정렬/커서 조회, 카테고리 집계(GROUP BY category_id)
+        @Index(name = "idx_product_category_id", columnList = "category_id, product_id"),
+        // 카테고리 필터 + 이름 정렬 (동일 이름은 ID 순으로 페이지 순서 고정)
+        @Index(name = "idx_product_category_name", columnList = "category_id, name, product_id")
+})
 @Getter
 @Setter
 public class Product {
 
+    /**
+     * ID 시퀀스와 1회 조회로 발급하는 ID 수. 시퀀스를 직접 조회하여 ID를 예약하는 쪽(ProductIdAllocator)도 같은 값을 사용해야
+     * Hibernate가 발급하는 ID 구간과 겹치지 않습니다.
+     */
+    public static final String ID_SEQUENCE = "product_seq";
+    public static final int ID_ALLOCATION_SIZE = 100;
+
+    /**
+     * pooled 최적화 시퀀스: 시퀀스 1회 조회로 allocationSize 만큼의 ID를 메모리에서 발급하여,
+     * 대량 등록 시 INSERT마다 ID 조회 왕복이 발생하지 않도록 합니다.
+     */
     @Id
     @Column(name = "product_id")
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq_generator")
+    @SequenceGenerator(name = "product_seq_generator", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
-    @Column(name = "category")
-    private String category;
+    /**
+     * 카테고리 문자열 대신 category 테이블의 정수 ID만 저장합니다.
+     * 이름은 CategoryDictionary가 메모리에 유지하는 Category 인스턴스를 참조하므로 대부분 추가 조회 없이 얻을 수 있습니다.
+     *
+     * FK 제약은 생성하지 않습니다. (참조 무결성과 조회 계획의 교환)
+     * - FK를 두면 H2가 FK용 단일 컬럼 인덱스(FK_..._INDEX: category_id)를 별도로 만들고 카테고리 조건 조회에서 이를 복합 인덱스보다 우선 선택하여,
+     *   목록/집계 쿼리에 정렬 단계가 다시 생깁니다. (FK를 켠 상태에서 ProductIndexPlanTest의 인덱스 검증이 실패하는 것으로 확인)
+     * - 대신 DB는 존재하지 않는 category_id 저장을 막지 않습니다. 애플리케이션은 CategoryDictionary가 별도 트랜잭션으로 커밋한 카테고리 ID만 저장하고,
+     *   카테고리를 삭제하는 경로가 없으므로 이 경로로는 깨진 참조가 생기지 않습니다.
+     * - 애플리케이션 밖에서 직접 SQL로 상품을 적재하거나 카테고리를 삭제하면 깨진 참조가 생길 수 있으며, 이 경우 조회는 LEFT JOIN이므로 카테고리가 null로 응답됩니다.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Category category;
+
+    /**
+     * category의 FK 컬럼을 읽기 전용으로 함께 매핑합니다.
+     * JPQL에서 p.category.id로 비교하면 Hibernate가 같은 쿼리의 category 조인을 재사용하여 category 테이블 컬럼으로 조건/정렬을 처리하므로,
+     * product 인덱스(category_id, ...)를 타도록 조회 조건과 정렬은 이 속성을 사용합니다. 값 변경은 category로만 합니다.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "category_id", insertable = false, updatable = false)
+    private Integer categoryId;
 
     @Column(name = "name")
     private String name;
 
+    /**
+     * 낙관적 락 버전. 변경이 커밋될 때마다 증가하며, 상품 조회 응답의 ETag로도 사용합니다.
+     */
+    @Version
+    @Setter(AccessLevel.NONE)
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     protected Product() {
     }
 
-    public Product(String category, String name) {
+    public Product(Category category, String name) {
         this.category = category;
         this.name = name;
     }
 
+    /**
+     * ID를 미리 예약한 등록 대기 상품 (write-behind 등록). 영속화하지 않으며, INSERT는 호출자가 JDBC로 직접 수행합니다.
+     */
+    public static Product reserved(Long id, Category category, String name) {
+        Product product = new Product(category, name);
+        product.id = id;
+        product.version = 0L;
+        return product;
+    }
+
+    /**
+     * 카테고리 이름. 응답/이벤트 등 기존 사용처와의 호환을 위해 이름을 반환합니다.
+     */
     public String getCategory() {
-        return category;
+        return category == null ? null : category.getName();
     }
 
     public String getName() {
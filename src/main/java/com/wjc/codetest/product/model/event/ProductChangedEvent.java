@@ -0,0 +1,66 @@
+package com.wjc.codetest.product.model.event;
+
+import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.model.response.ProductResponse;
+
+import java.util.Objects;
+
+/**
+ * 상품 데이터 변경 이벤트.
+ * 카테고리 집계, 캐시 등 상품 데이터를 기반으로 유지되는 인메모리 상태는 이 이벤트를 구독하여 갱신됩니다.
+ * 트랜잭션 커밋 이후에 반영되도록 @TransactionalEventListener(fallbackExecution = true)로 구독합니다.
+ * 대량 등록은 상품별 CREATED 이벤트를 ProductsCreatedEvent로 묶어 발행합니다.
+ *
+ * @param previousCategory 변경 전 카테고리 (CREATED의 경우 null)
+ * @param category         변경 후 카테고리 (DELETED의 경우 null)
+ * @param version          변경 후 상품 버전 (DELETED의 경우 삭제 시점 버전). 이름만 변경한 PATCHED(nameChanged)를 제외하고 필수입니다.
+ *
+ * 커밋 이후 이벤트는 트랜잭션 간 도착 순서가 보장되지 않으므로, 상품 상태를 보관하는 구독자는 보관한 버전보다 새로운 이벤트만 반영합니다.
+ * PATCHED는 부분 수정으로, category/name에는 수정 후 전체 상태를 담습니다.
+ * previousCategory는 UPDATED와 같이 항상 채우며, 이름만 바꾼 경우 previousName은 조회하지 않으므로 null입니다.
+ * 단, 버전 순서로 상태를 보관하는 인덱스가 모두 꺼져 있으면 이름만 변경은 수정 후 상태를 조회하지 않으므로,
+ * category/previousCategory/version이 모두 null이고 name만 담긴 PATCHED(nameChanged)로 발행됩니다. (카테고리 집계는 변화 없음, 캐시는 무효화)
+ */
+public record ProductChangedEvent(
+        Type type,
+        Long productId,
+        String previousCategory,
+        String previousName,
+        String category,
+        String name,
+        Long version
+) {
+
+    public enum Type {
+        CREATED, UPDATED, PATCHED, DELETED
+    }
+
+    public ProductChangedEvent {
+        if (!(type == Type.PATCHED && category == null && previousCategory == null)) {
+            Objects.requireNonNull(version, "version must not be null");
+        }
+    }
+
+    public static ProductChangedEvent created(Product product) {
+        return new ProductChangedEvent(Type.CREATED, product.getId(), null, null, product.getCategory(), product.getName(), product.getVersion());
+    }
+
+    public static ProductChangedEvent updated(String previousCategory, String previousName, ProductResponse product) {
+        return new ProductChangedEvent(Type.UPDATED, product.id(), previousCategory, previousName, product.category(), product.name(), product.version());
+    }
+
+    public static ProductChangedEvent patched(String previousCategory, String previousName, ProductResponse product) {
+        return new ProductChangedEvent(Type.PATCHED, product.id(), previousCategory, previousName, product.category(), product.name(), product.version());
+    }
+
+    /**
+     * 수정 후 상태를 조회하지 않은 이름만 변경. 버전이 없으므로 버전 순서를 사용하는 인덱스가 꺼져 있을 때만 발행합니다.
+     */
+    public static ProductChangedEvent nameChanged(Long productId, String name) {
+        return new ProductChangedEvent(Type.PATCHED, productId, null, null, null, name, null);
+    }
+
+    public static ProductChangedEvent deleted(Product product) {
+        return new ProductChangedEvent(Type.DELETED, product.getId(), product.getCategory(), product.getName(), null, null, product.getVersion());
+    }
+}
@@ -0,0 +1,13 @@
+package com.wjc.codetest.product.model.event;
+
+import java.util.List;
+
+/**
+ * 상품 대량 등록 이벤트. 대량 등록(createAll)은 flush 단위(chunk)로 이 이벤트를 1건씩 발행합니다.
+ * 상품마다 ProductChangedEvent를 발행하면 커밋 시점까지 구독자 수 × 상품 수 만큼의 이벤트와 트랜잭션 동기화가 유지되므로,
+ * chunk 단위로 묶어 구독자별 1건으로 줄이고 구독자는 잠금을 chunk당 한 번만 획득합니다.
+ *
+ * @param products 등록된 상품별 CREATED 이벤트 (등록 순서)
+ */
+public record ProductsCreatedEvent(List<ProductChangedEvent> products) {
+}
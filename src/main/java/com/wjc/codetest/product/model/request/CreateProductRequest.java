@@ -1,6 +1,7 @@
 package com.wjc.codetest.product.model.request;
 
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 /**
@@ -11,9 +12,12 @@ import lombok.Setter;
  * 개선안:
  * 1. 각 필드에 적절한 검증 어노테이션 추가. (예: @NotNull, @NotEmpty 등)
  * 2. 카테고리만 입력받아 데이터를 생성하는 경우가 없을 것으로 예상되는 설꼐이므로, 카테고리 값만 전달받는 생성자 제거.
+ *
+ * 생성자가 여럿이면 Jackson이 사용할 생성자를 결정하지 못해 역직렬화에 실패하므로, 기본 생성자 + Setter로 바인딩합니다.
  */
 @Getter
 @Setter
+@NoArgsConstructor
 public class CreateProductRequest {
     private String category;
     private String name;
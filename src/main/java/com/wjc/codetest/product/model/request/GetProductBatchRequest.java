@@ -0,0 +1,21 @@
+package com.wjc.codetest.product.model.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 상품 다건 조회 요청. 응답은 ids 순서(중복 포함)를 그대로 따릅니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class GetProductBatchRequest {
+    private List<Long> ids;
+
+    public GetProductBatchRequest(List<Long> ids) {
+        this.ids = ids;
+    }
+}
@@ -0,0 +1,12 @@
+package com.wjc.codetest.product.model.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class GetProductCursorListRequest {
+    private String category;
+    private String after;
+    private int size;
+}
@@ -9,4 +9,8 @@ public class GetProductListRequest {
     private String category;
     private int page;
     private int size;
+    /**
+     * 정렬 기준. 미지정 시 ID 순
+     */
+    private ProductListSort sort;
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.wjc.codetest.product.model.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 상품 부분 수정 요청. null인 필드는 변경하지 않습니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class PatchProductRequest {
+    private String category;
+    private String name;
+
+    public PatchProductRequest(String category, String name) {
+        this.category = category;
+        this.name = name;
+    }
+}
@@ -0,0 +1,30 @@
+package com.wjc.codetest.product.model.request;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * 카테고리별 목록 정렬 기준.
+ * 인덱스 컬럼 순서와 동일한 정렬만 허용하여, DB가 별도 정렬 없이 인덱스 순서대로 읽고 OFFSET/LIMIT 만큼만 스캔하도록 합니다.
+ * ID     : idx_product_category_id   (category_id, product_id)
+ * NAME   : idx_product_category_name (category_id, name, product_id) - 동일 이름은 ID 순
+ * 선두의 category_id는 조회 조건(category_id = ?)으로 고정되어 결과 순서에 영향이 없지만,
+ * 정렬 컬럼이 인덱스 컬럼과 그대로 일치해야 정렬 생략을 판단하는 옵티마이저(H2 등)가 있어 함께 지정합니다.
+ */
+public enum ProductListSort {
+    ID(Sort.by(Sort.Direction.ASC, "categoryId", "id")),
+    NAME(Sort.by(Sort.Direction.ASC, "categoryId", "name", "id"));
+
+    private final Sort sort;
+
+    ProductListSort(Sort sort) {
+        this.sort = sort;
+    }
+
+    public Sort toSort() {
+        return sort;
+    }
+
+    public static ProductListSort orDefault(ProductListSort sort) {
+        return sort == null ? ID : sort;
+    }
+}
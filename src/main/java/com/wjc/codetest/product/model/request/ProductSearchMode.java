@@ -0,0 +1,11 @@
+package com.wjc.codetest.product.model.request;
+
+/**
+ * 상품명 검색 방식.
+ * PREFIX   : 상품명이 검색어로 시작 (상품명 순)
+ * CONTAINS : 상품명에 검색어가 포함 (ID 순)
+ */
+public enum ProductSearchMode {
+    PREFIX,
+    CONTAINS
+}
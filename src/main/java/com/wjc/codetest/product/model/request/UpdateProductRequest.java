@@ -1,10 +1,12 @@
 package com.wjc.codetest.product.model.request;
 
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class UpdateProductRequest {
     private Long id;
     private String category;
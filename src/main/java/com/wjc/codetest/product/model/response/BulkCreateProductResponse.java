@@ -0,0 +1,9 @@
+package com.wjc.codetest.product.model.response;
+
+import java.util.List;
+
+/**
+ * 대량 등록 응답. productIds는 요청 순서와 동일합니다.
+ */
+public record BulkCreateProductResponse(int createdCount, List<Long> productIds) {
+}
@@ -0,0 +1,7 @@
+package com.wjc.codetest.product.model.response;
+
+/**
+ * 카테고리별 상품 수.
+ */
+public record CategoryCountResponse(String category, long productCount) {
+}
@@ -0,0 +1,23 @@
+package com.wjc.codetest.product.model.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 상품 가져오기 결과.
+ *
+ * @param rejectedCount 검증 또는 변환에 실패하여 제외된 row 수
+ * @param error         문법 오류로 가져오기를 중단한 경우 오류 위치 (정상 완료 시 null)
+ */
+public record ImportProductResponse(long importedCount, long rejectedCount, long elapsedMillis, double rowsPerSecond,
+                                    @JsonInclude(JsonInclude.Include.NON_NULL) Error error) {
+
+    public ImportProductResponse(long importedCount, long rejectedCount, long elapsedMillis, double rowsPerSecond) {
+        this(importedCount, rejectedCount, elapsedMillis, rowsPerSecond, null);
+    }
+
+    /**
+     * 문법 오류 위치. line/column은 1부터 시작하며, 알 수 없으면 -1입니다.
+     */
+    public record Error(long line, long column, String message) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.wjc.codetest.product.model.response;
+
+/**
+ * 부분 수정 응답. 대상 상품이 없으면 updatedCount는 0입니다.
+ */
+public record PatchProductResponse(int updatedCount) {
+}
@@ -0,0 +1,23 @@
+package com.wjc.codetest.product.model.response;
+
+import java.util.List;
+
+/**
+ * 상품 다건 조회 응답. products는 요청한 ID 순서와 같으며, 존재하지 않는 상품은 missing=true 항목으로 표시합니다.
+ */
+public record ProductBatchResponse(List<Entry> products, int missingCount) {
+
+    /**
+     * @param product 존재하지 않는 상품이면 null
+     */
+    public record Entry(Long id, boolean missing, ProductResponse product) {
+
+        public static Entry found(ProductResponse product) {
+            return new Entry(product.id(), false, product);
+        }
+
+        public static Entry missing(Long id) {
+            return new Entry(id, true, null);
+        }
+    }
+}
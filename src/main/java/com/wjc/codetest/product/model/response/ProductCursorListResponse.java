@@ -0,0 +1,20 @@
+package com.wjc.codetest.product.model.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 조회 응답.
+ * nextCursor가 null이면 마지막 페이지입니다.
+ */
+@Getter
+public class ProductCursorListResponse {
+    private final List<ProductResponse> products;
+    private final String nextCursor;
+
+    public ProductCursorListResponse(List<ProductResponse> products, String nextCursor) {
+        this.products = products;
+        this.nextCursor = nextCursor;
+    }
+}
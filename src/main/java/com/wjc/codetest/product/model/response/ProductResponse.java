@@ -0,0 +1,17 @@
+package com.wjc.codetest.product.model.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.wjc.codetest.product.model.domain.Product;
+
+/**
+ * 상품 조회 응답.
+ * 불변 객체이므로 캐시 등에서 여러 요청이 공유해도 안전합니다.
+ *
+ * @param version 상품 버전. 응답 본문에는 포함하지 않고 조건부 조회(ETag) 판단에만 사용합니다.
+ */
+public record ProductResponse(Long id, String category, String name, @JsonIgnore Long version) {
+
+    public static ProductResponse from(Product product) {
+        return new ProductResponse(product.getId(), product.getCategory(), product.getName(), product.getVersion());
+    }
+}
@@ -0,0 +1,13 @@
+package com.wjc.codetest.product.repository;
+
+import com.wjc.codetest.product.model.domain.Category;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CategoryRepository extends JpaRepository<Category, Integer> {
+
+    Optional<Category> findByName(String name);
+}
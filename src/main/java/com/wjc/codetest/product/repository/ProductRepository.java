@@ -1,13 +1,30 @@
 package com.wjc.codetest.product.repository;
 
+import com.wjc.codetest.product.model.domain.Category;
 import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.model.response.CategoryCountResponse;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 
 @Repository
@@ -18,8 +35,139 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      * 원인: Query Method method명과 인자명이 불일치하여 혼란을 가져옴.
      * 개선안: 인자명을 'category'로 변경하여 method명과 일치하도록 수정.
      */
-    Page<Product> findAllByCategory(String name, Pageable pageable);
+    Page<Product> findAllByCategory(Category category, Pageable pageable);
 
-    @Query("SELECT DISTINCT p.category FROM Product p")
+    /**
+     * 수정/삭제 대상 상품. 변경 이벤트에 이전 카테고리 이름이 필요하므로 카테고리를 함께 조회(LEFT JOIN)하여,
+     * 지연 로딩으로 카테고리 SELECT가 한 번 더 실행되지 않도록 합니다.
+     */
+    @EntityGraph(attributePaths = "category")
+    Optional<Product> findWithCategoryById(Long id);
+
+    /*
+     * 조회 전용 DTO Projection 쿼리.
+     * JPQL 생성자 표현식으로 불변 응답 모델(ProductResponse)을 바로 생성하므로 Entity가 영속성 컨텍스트에 적재되지 않고,
+     * dirty checking용 스냅샷 복사도 발생하지 않습니다. 읽기 전용 트랜잭션(flush 생략)으로 실행합니다.
+     * 카테고리 조건은 이름이 아닌 정수 ID(category_id)로 비교하며, 응답의 카테고리 이름은 category 테이블의 PK 조회로 채웁니다.
+     *
+     * 단건/카테고리 목록/카테고리 이름 조회는 cacheable 힌트를 지정하여 l2cache 프로파일에서 쿼리 캐시로 응답합니다.
+     * 쿼리 캐시가 꺼져 있으면(기본 설정) 힌트는 무시됩니다. 쿼리 결과는 product/category 테이블 단위로 무효화되므로
+     * 상품 1건의 변경으로도 캐시된 모든 상품 쿼리 결과가 버려지며, 쓰기가 잦을수록 적중률이 낮아집니다.
+     */
+
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.wjc.codetest.product.model.response.ProductResponse(p.id, c.name, p.name, p.version) FROM Product p LEFT JOIN p.category c WHERE p.id = :id")
+    Optional<ProductResponse> findResponseById(@Param("id") Long id);
+
+    /**
+     * 잠금 조회: SELECT ... FOR UPDATE. 카테고리를 바꾸는 부분 수정이 이전 카테고리를 알 수 없을 때 사용하며,
+     * 트랜잭션이 끝날 때까지 다른 수정이 끼어들지 못하므로 이어지는 UPDATE는 조회한 버전에서 실행됩니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.wjc.codetest.product.model.response.ProductResponse(p.id, c.name, p.name, p.version) FROM Product p LEFT JOIN p.category c WHERE p.id = :id")
+    Optional<ProductResponse> findResponseByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 다건 조회: WHERE product_id IN (...). 호출자가 ID 수를 DB 바인드 파라미터 제한 이하로 나누어 전달합니다.
+     * IN 목록 길이가 달라도 SQL 문자열이 크게 늘지 않도록 hibernate.query.in_clause_parameter_padding을 사용합니다.
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.wjc.codetest.product.model.response.ProductResponse(p.id, c.name, p.name, p.version) FROM Product p LEFT JOIN p.category c WHERE p.id IN :ids")
+    List<ProductResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(value = "SELECT new com.wjc.codetest.product.model.response.ProductResponse(p.id, c.name, p.name, p.version) FROM Product p LEFT JOIN p.category c WHERE p.categoryId = :categoryId",
+            countQuery = "SELECT COUNT(p) FROM Product p WHERE p.categoryId = :categoryId")
+    Page<ProductResponse> findResponsesByCategory(@Param("categoryId") Integer categoryId, Pageable pageable);
+
+    /**
+     * Slice 반환 타입은 size + 1건만 조회하여 다음 페이지 여부를 판단하므로 COUNT 쿼리가 발생하지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.wjc.codetest.product.model.response.ProductResponse(p.id, c.name, p.name, p.version) FROM Product p LEFT JOIN p.category c WHERE p.categoryId = :categoryId")
+    Slice<ProductResponse> findResponseSliceByCategory(@Param("categoryId") Integer categoryId, Pageable pageable);
+
+    /**
+     * 커서(seek) 기반 조회: WHERE category_id = ? AND product_id > ? ORDER BY category_id, product_id LIMIT ?
+     * OFFSET 페이징과 달리 앞선 페이지의 row를 읽고 버리지 않으므로 페이지 깊이와 무관하게 비용이 일정합니다.
+     * 정렬을 (category_id, product_id) 인덱스 컬럼 순서와 맞추어 인덱스 탐색 위치부터 size + 1건만 읽습니다.
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.wjc.codetest.product.model.response.ProductResponse(p.id, c.name, p.name, p.version) FROM Product p LEFT JOIN p.category c"
+            + " WHERE p.categoryId = :categoryId AND p.id > :after ORDER BY p.categoryId ASC, p.id ASC")
+    List<ProductResponse> findResponsesByCategoryAfter(@Param("categoryId") Integer categoryId, @Param("after") Long after, Limit limit);
+
+    /**
+     * 버전 조건부 수정: UPDATE product SET ..., version = version + 1 WHERE product_id = ? AND version = ?
+     * 조회 없이 단일 UPDATE로 처리하며, 다른 요청이 먼저 수정하여 버전이 달라졌다면 0을 반환합니다.
+     * 영속성 컨텍스트를 거치지 않으므로 실행 후 컨텍스트를 비워 같은 트랜잭션에서 이전 상태가 조회되지 않도록 합니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.category = :category, p.name = :name, p.version = p.version + 1"
+            + " WHERE p.id = :id AND p.version = :version")
+    int updateIfVersion(@Param("id") Long id, @Param("version") Long version,
+                        @Param("category") Category category, @Param("name") String name);
+
+    /**
+     * 상품명만 바꾸는 부분 수정(PATCH)용 단일 UPDATE. 조회 없이 이름과 버전만 변경하며, 수정된 행 수를 반환합니다.
+     * 카테고리를 바꾸는 부분 수정은 이전 카테고리가 필요하므로 updateIfVersion을 사용합니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.name = :name, p.version = p.version + 1 WHERE p.id = :id")
+    int updateName(@Param("id") Long id, @Param("name") String name);
+
+    /**
+     * 전체 상품을 전방향(forward-only) 커서로 조회합니다. 트랜잭션 안에서 소비하고 반드시 close 해야 합니다.
+     * fetch size 단위로 row를 가져오고, read-only 힌트로 dirty checking용 스냅샷을 만들지 않습니다.
+     * 카테고리는 fetch join으로 함께 조회하여 상품마다 지연 로딩이 발생하지 않도록 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.category ORDER BY p.id")
+    Stream<Product> streamAll();
+
+    /**
+     * 전체 상품을 ID 순 DTO Projection으로 스트리밍합니다. Entity를 만들지 않으므로 detach가 필요 없습니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.wjc.codetest.product.model.response.ProductResponse(p.id, c.name, p.name, p.version) FROM Product p LEFT JOIN p.category c ORDER BY p.id")
+    Stream<ProductResponse> streamAllResponses();
+
+    /**
+     * 상품명 검색 (상품명 인덱스 비활성화 시 사용). 검색어의 LIKE 특수문자(%, _)는 Spring Data가 이스케이프합니다.
+     * 부분 문자열 조회(LIKE '%q%')는 인덱스를 사용할 수 없어 전체 스캔이 발생합니다.
+     * 카테고리가 연관관계이므로 DTO 대신 Entity를 조회하고, 응답 변환 시 지연 로딩이 없도록 카테고리를 함께 조회합니다.
+     *
+     * 접두어 검색은 상품명 인덱스(ProductNameIndex)와 같은 순서(소문자 상품명, ID)로 정렬합니다.
+     * 파생 쿼리의 IgnoreCase는 조건에만 적용되고 정렬은 원래 상품명 기준이므로, 대소문자가 섞이면 인덱스 사용 여부에 따라 순서와 상위 N건이 달라집니다.
+     */
+    @Transactional(readOnly = true)
+    @EntityGraph(attributePaths = "category")
+    @Query("SELECT p FROM Product p WHERE LOWER(p.name) LIKE LOWER(CONCAT(:#{escape(#prefix)}, '%')) ESCAPE :#{escapeCharacter()}"
+            + " ORDER BY LOWER(p.name), p.id")
+    List<Product> findByNamePrefixIgnoreCase(@Param("prefix") String prefix, Limit limit);
+
+    @Transactional(readOnly = true)
+    @EntityGraph(attributePaths = "category")
+    List<Product> findByNameContainingIgnoreCaseOrderByIdAsc(String name, Limit limit);
+
+    /**
+     * 상품이 1건 이상 존재하는 카테고리 이름. 이름은 category 테이블에서 읽고, 상품 테이블은 category_id 인덱스 순서로만 확인합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT c.name FROM Category c WHERE c.id IN (SELECT p.categoryId FROM Product p GROUP BY p.categoryId)")
     List<String> findDistinctCategories();
+
+    /**
+     * 카테고리별 상품 수. (category_id, product_id) 인덱스 순서로 category_id 단위 집계를 먼저 수행하고, 집계 결과(카테고리 수 만큼의 행)에만 이름을 조인합니다.
+     */
+    @Query("SELECT new com.wjc.codetest.product.model.response.CategoryCountResponse(c.name, g.productCount)"
+            + " FROM (SELECT p.categoryId AS categoryId, COUNT(p) AS productCount FROM Product p GROUP BY p.categoryId) g"
+            + " LEFT JOIN Category c ON c.id = g.categoryId")
+    List<CategoryCountResponse> countGroupByCategory();
 }
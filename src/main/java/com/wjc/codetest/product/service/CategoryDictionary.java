@@ -0,0 +1,118 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.model.domain.Category;
+import com.wjc.codetest.product.repository.CategoryRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 카테고리 이름 <-> ID 사전.
+ * 기동 시 category 테이블 전체(수백 건 수준)를 메모리에 적재하여, 목록 조회 시 카테고리 이름을 DB 조회 없이 정수 ID로 변환합니다.
+ *
+ * 처음 등장한 카테고리는 등록 요청 중에 자체 트랜잭션으로 즉시 커밋합니다.
+ * 상품 트랜잭션이 롤백되어도 사전 항목은 남지만, 참조하는 상품이 없는 카테고리는 목록/집계에 노출되지 않으므로 문제가 없습니다.
+ *
+ * 새 카테고리 등록은 상품 트랜잭션이 열리기 전에 호출해야 합니다. (ProductService는 카테고리를 먼저 resolve한 뒤 트랜잭션을 엽니다)
+ * 트랜잭션 안에서 REQUIRES_NEW로 등록하면 커넥션을 가진 채 커넥션을 하나 더 빌리므로, 풀 크기만큼의 요청이 동시에 새 카테고리를 등록하면
+ * 모든 스레드가 두 번째 커넥션을 기다리다 커넥션 타임아웃으로 실패합니다. 이를 막기 위해 트랜잭션 안에서의 등록은 IllegalStateException으로 거절합니다.
+ * (이미 등록된 카테고리는 메모리에서만 조회하므로 트랜잭션 안에서도 사용할 수 있습니다)
+ *
+ * 등록은 잠금 없이 insert-or-select로 처리합니다. 같은 이름의 동시 등록(같은 인스턴스/다른 인스턴스 모두)은 유니크 제약(uk_category_name)이 하나만 남기고,
+ * 위반한 쪽은 커밋된 행을 재조회합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryDictionary {
+
+    private final CategoryRepository categoryRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ConcurrentMap<String, Category> byName = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Integer, Category> byId = new ConcurrentHashMap<>();
+    private TransactionTemplate transaction;
+
+    @PostConstruct
+    public void load() {
+        transaction = new TransactionTemplate(transactionManager);
+        categoryRepository.findAll().forEach(this::register);
+        log.info("category dictionary loaded :: {} categories", byId.size());
+    }
+
+    /**
+     * 등록된 카테고리의 ID. 등록되지 않은 카테고리는 해당 카테고리의 상품도 없음을 의미합니다.
+     */
+    public Optional<Integer> idOf(String name) {
+        Category category = name == null ? null : byName.get(name);
+        return category == null ? Optional.empty() : Optional.of(category.getId());
+    }
+
+    public String nameOf(Integer id) {
+        Category category = id == null ? null : byId.get(id);
+        return category == null ? null : category.getName();
+    }
+
+    /**
+     * 상품 등록/수정 시 참조할 카테고리. 처음 등장한 이름이면 category 테이블에 등록합니다.
+     *
+     * @return 카테고리가 없는 상품(name == null)이면 null
+     */
+    public Category resolve(String name) {
+        if (name == null) {
+            return null;
+        }
+        Category category = byName.get(name);
+        if (category != null) {
+            return category;
+        }
+        Assert.state(!TransactionSynchronizationManager.isActualTransactionActive(),
+                () -> "new category must be resolved before the transaction opens :: " + name);
+        return register(insertOrSelect(name));
+    }
+
+    /**
+     * 여러 상품이 참조할 카테고리를 이름별로 한 번씩 resolve합니다. (대량 등록 시 트랜잭션 전에 호출)
+     *
+     * @return 이름 -> 카테고리. 카테고리가 없는 상품을 위해 null 키(값 null)를 포함할 수 있습니다.
+     */
+    public Map<String, Category> resolveAll(Collection<String> names) {
+        Map<String, Category> categories = new HashMap<>();
+        for (String name : names) {
+            if (!categories.containsKey(name)) {
+                categories.put(name, resolve(name));
+            }
+        }
+        return categories;
+    }
+
+    private Category insertOrSelect(String name) {
+        try {
+            return transaction.execute(status -> categoryRepository.save(new Category(name)));
+        } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+            return transaction.execute(status -> categoryRepository.findByName(name)).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * 같은 이름을 동시에 등록한 경우에도 먼저 등록된 인스턴스를 모든 호출자가 공유합니다.
+     */
+    private Category register(Category category) {
+        byId.putIfAbsent(category.getId(), category);
+        Category registered = byName.putIfAbsent(category.getName(), category);
+        return registered != null ? registered : category;
+    }
+}
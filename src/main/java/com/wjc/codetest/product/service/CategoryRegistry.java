@@ -0,0 +1,296 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.model.event.ProductChangedEvent;
+import com.wjc.codetest.product.model.event.ProductsCreatedEvent;
+import com.wjc.codetest.product.model.response.CategoryCountResponse;
+import com.wjc.codetest.product.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 카테고리별 상품 수와 카테고리 목록을 인메모리로 유지합니다.
+ * 기동 시 GROUP BY 쿼리로 한 번 적재한 뒤, ProductChangedEvent를 통해 증분 갱신하므로
+ * 목록 조회 시 전체 건수와 카테고리 목록을 DB 조회 없이 제공할 수 있습니다.
+ *
+ * 이벤트 반영은 카테고리별 LongAdder만 갱신하며 공용 락을 잡지 않습니다.
+ * 카테고리 목록은 불변 리스트로 유지하며, 카테고리의 상품 수가 0 <-> 1로 바뀌었을 수 있을 때만 publishLock 안에서 현재 집계로 다시 만듭니다.
+ * 목록은 항상 교체 시점의 집계로 다시 계산하므로, 동시에 일어난 0 <-> 1 변경도 마지막 교체에 모두 반영됩니다.
+ *
+ * 이벤트 유실(리스너 예외, DB 직접 변경 등)로 생긴 오차는 주기적으로 GROUP BY 결과와 비교하여 보정합니다. (reconcile)
+ *
+ * 카테고리 목록이 교체될 때마다 목록 버전(categoriesVersion)을 올려 조건부 조회(ETag)에 사용합니다.
+ * 버전은 재기동 시 0부터 다시 시작하므로, 기동 시각(epoch)을 함께 사용하여 이전 프로세스의 버전과 구분합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryRegistry {
+
+    /**
+     * ConcurrentHashMap은 null 키를 허용하지 않으므로, 카테고리가 없는 상품은 별도의 키로 집계합니다.
+     */
+    private static final String NULL_CATEGORY = "\u0000";
+
+    private final ProductRepository productRepository;
+    private final ConcurrentMap<String, CategoryCounter> productCounts = new ConcurrentHashMap<>();
+    private final Object publishLock = new Object();
+    private volatile List<String> categories = List.of();
+    private final long epoch = System.currentTimeMillis();
+    private volatile long categoriesVersion;
+    private volatile boolean reconcileRequested;
+
+    @PostConstruct
+    public void load() {
+        List<CategoryCountResponse> counts = productRepository.countGroupByCategory();
+        productCounts.clear();
+        for (CategoryCountResponse count : counts) {
+            counter(count.category()).count.add(count.productCount());
+        }
+        publishCategories();
+        log.info("category registry loaded :: {} categories", productCounts.size());
+    }
+
+    public long productCount(String category) {
+        CategoryCounter counter = productCounts.get(key(category));
+        return counter == null ? 0L : counter.count.sum();
+    }
+
+    /**
+     * 상품이 1건 이상 존재하는 카테고리 목록 (정렬, 불변)
+     */
+    public List<String> categories() {
+        return categories;
+    }
+
+    /**
+     * 카테고리 목록 버전 (기동 시각 + 교체 횟수).
+     * 목록 교체 후 버전을 올리므로, 버전을 먼저 읽고 목록을 읽으면 목록이 버전보다 오래된 경우는 없습니다.
+     */
+    public String categoriesVersion() {
+        return Long.toString(epoch, 36) + "-" + categoriesVersion;
+    }
+
+    /**
+     * 카테고리별 상품 수 (카테고리 목록 순서). DB 조회 없이 카테고리 수 만큼의 LongAdder 합산만 수행합니다.
+     * 락 없이 읽으므로 동시에 반영 중인 등록/삭제는 일부만 보일 수 있습니다.
+     */
+    public List<CategoryCountResponse> productCounts() {
+        List<String> snapshot = categories;
+        List<CategoryCountResponse> counts = new ArrayList<>(snapshot.size());
+        for (String category : snapshot) {
+            counts.add(new CategoryCountResponse(category, productCount(category)));
+        }
+        return counts;
+    }
+
+    /**
+     * 인메모리 집계를 GROUP BY 결과와 비교하여 보정합니다.
+     * 보정값은 (DB 건수 - 쿼리 직전 집계 스냅샷)이며, 현재 값에 더하므로 쿼리 이후 반영된 이벤트는 그대로 남습니다.
+     * 스냅샷이 쿼리 결과와 같은 시점의 값이어야 하므로, 카테고리별로 아래 경우에는 그 카테고리만 건너뛰고 다음 확인 주기(1초)에 다시 시도합니다.
+     * - 쿼리 전후로 이벤트 반영 횟수(changes)가 달라진 경우
+     * - 쿼리 전후에 커밋 대기 중인 변경(pending)이 있는 경우: 쿼리에는 보이지만 아직 반영되지 않은 커밋일 수 있어, 보정 후 이벤트가 다시 더해지면 중복 집계됩니다.
+     * 트랜잭션 밖에서 발행된 이벤트(이미 커밋된 뒤 발행)는 pending으로 추적하지 않으므로, 커밋과 발행 사이에 쿼리가 끼면 오차가 남고 다음 reconcile에서 보정됩니다.
+     */
+    @Scheduled(initialDelayString = "${product.category-stats.reconcile-interval:5m}",
+            fixedDelayString = "${product.category-stats.reconcile-interval:5m}")
+    public synchronized void reconcile() {
+        reconcileRequested = false;
+        Map<String, Snapshot> before = new HashMap<>();
+        productCounts.forEach((key, counter) -> before.put(key, counter.snapshot()));
+
+        List<CategoryCountResponse> counts = productRepository.countGroupByCategory();
+
+        Map<String, Long> actual = new HashMap<>();
+        for (CategoryCountResponse count : counts) {
+            actual.put(key(count.category()), count.productCount());
+        }
+        Set<String> keys = new HashSet<>(productCounts.keySet());
+        keys.addAll(actual.keySet());
+        int drifted = 0;
+        int skipped = 0;
+        for (String key : keys) {
+            CategoryCounter counter = productCounts.computeIfAbsent(key, k -> new CategoryCounter());
+            Snapshot snapshot = before.getOrDefault(key, Snapshot.EMPTY);
+            // pending을 changes보다 먼저 읽어야, 두 읽기 사이에 반영을 마친 커밋도 changes 변화로 감지됩니다.
+            if (snapshot.pending() != 0 || counter.pending.sum() != 0 || counter.changes.sum() != snapshot.changes()) {
+                skipped++;
+                continue;
+            }
+            long drift = actual.getOrDefault(key, 0L) - snapshot.count();
+            if (drift != 0) {
+                counter.count.add(drift);
+                drifted++;
+            }
+        }
+        if (skipped > 0) {
+            log.debug("category registry reconcile deferred :: {} categories changed during the query", skipped);
+            reconcileRequested = true;
+        }
+        if (drifted > 0) {
+            publishCategories();
+            log.warn("category registry reconciled :: {} categories corrected", drifted);
+        }
+    }
+
+    /**
+     * 이전 reconcile에서 건너뛴 카테고리가 있는 경우에만 reconcile을 다시 실행합니다.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void reconcileIfRequested() {
+        if (reconcileRequested) {
+            reconcile();
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서 발행된 변경을 커밋(또는 롤백) 후 반영될 때까지 pending으로 표시합니다.
+     */
+    @EventListener
+    public void onProductChanging(ProductChangedEvent event) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            forEachAffected(event, counter -> counter.pending.increment());
+        }
+    }
+
+    @EventListener
+    public void onProductsCreating(ProductsCreatedEvent event) {
+        event.products().forEach(this::onProductChanging);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onProductChangeRolledBack(ProductChangedEvent event) {
+        forEachAffected(event, counter -> counter.pending.decrement());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onProductsCreateRolledBack(ProductsCreatedEvent event) {
+        event.products().forEach(this::onProductChangeRolledBack);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> increment(event.category());
+            case DELETED -> decrement(event.previousCategory());
+            case UPDATED, PATCHED -> {
+                if (!Objects.equals(event.previousCategory(), event.category())) {
+                    decrement(event.previousCategory());
+                    increment(event.category());
+                }
+            }
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            forEachAffected(event, counter -> counter.pending.decrement());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsCreated(ProductsCreatedEvent event) {
+        event.products().forEach(this::onProductChanged);
+    }
+
+    private void increment(String category) {
+        CategoryCounter counter = counter(category);
+        counter.count.increment();
+        counter.changes.increment();
+        if (counter.count.sum() <= 1) {
+            publishCategories();
+        }
+    }
+
+    private void decrement(String category) {
+        CategoryCounter counter = counter(category);
+        counter.count.decrement();
+        counter.changes.increment();
+        if (counter.count.sum() <= 0) {
+            publishCategories();
+        }
+    }
+
+    private void forEachAffected(ProductChangedEvent event, Consumer<CategoryCounter> action) {
+        switch (event.type()) {
+            case CREATED -> action.accept(counter(event.category()));
+            case DELETED -> action.accept(counter(event.previousCategory()));
+            case UPDATED, PATCHED -> {
+                if (!Objects.equals(event.previousCategory(), event.category())) {
+                    action.accept(counter(event.previousCategory()));
+                    action.accept(counter(event.category()));
+                }
+            }
+        }
+    }
+
+    private void publishCategories() {
+        synchronized (publishLock) {
+            List<String> snapshot = new ArrayList<>(productCounts.size());
+            productCounts.forEach((key, counter) -> {
+                if (counter.count.sum() > 0) {
+                    snapshot.add(NULL_CATEGORY.equals(key) ? null : key);
+                }
+            });
+            snapshot.sort(Comparator.nullsFirst(Comparator.naturalOrder()));
+            if (snapshot.equals(categories)) {
+                return;
+            }
+            categories = Collections.unmodifiableList(snapshot);
+            categoriesVersion++;
+        }
+    }
+
+    /**
+     * 상품 수가 0인 카테고리도 카운터는 남겨 둡니다. 카운터를 제거하면 제거와 동시에 더해진 증가분이 유실될 수 있습니다.
+     */
+    private CategoryCounter counter(String category) {
+        return productCounts.computeIfAbsent(key(category), key -> new CategoryCounter());
+    }
+
+    private static String key(String category) {
+        return category == null ? NULL_CATEGORY : category;
+    }
+
+    /**
+     * 카테고리별 집계.
+     * count   : 상품 수
+     * changes : 반영한 이벤트 수 (reconcile 중 변경 감지용 버전)
+     * pending : 트랜잭션 안에서 발행되어 아직 커밋 후 반영(또는 롤백)되지 않은 변경 수
+     */
+    private static final class CategoryCounter {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder changes = new LongAdder();
+        private final LongAdder pending = new LongAdder();
+
+        /**
+         * changes -> count -> pending 순으로 읽습니다. count를 읽은 뒤 반영된 변경은 changes 또는 pending 중 하나로 반드시 드러납니다.
+         */
+        private Snapshot snapshot() {
+            long changesBefore = changes.sum();
+            long countBefore = count.sum();
+            return new Snapshot(changesBefore, countBefore, pending.sum());
+        }
+    }
+
+    private record Snapshot(long changes, long count, long pending) {
+        private static final Snapshot EMPTY = new Snapshot(0, 0, 0);
+    }
+}
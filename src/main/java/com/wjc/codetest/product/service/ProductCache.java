@@ -0,0 +1,157 @@
+package com.wjc.codetest.product.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wjc.codetest.product.config.ProductCacheProperties;
+import com.wjc.codetest.product.model.event.ProductChangedEvent;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 상품 단건 조회용 read-through 캐시.
+ * Caffeine(W-TinyLFU)으로 최대 항목 수와 TTL을 제한하며, 수정/삭제 커밋 이후 해당 항목을 제거합니다.
+ * hit/miss/eviction 지표는 cache.gets, cache.evictions 등의 이름으로 /actuator/metrics에 노출됩니다.
+ *
+ * 항목은 조회 결과가 아닌 조회 중인 CompletableFuture로 저장합니다. (AsyncCache)
+ * 조회 완료 후 저장(put)하는 방식은 조회와 저장 사이에 수정 커밋의 무효화가 끼어들면 수정 전 값이 TTL 동안 남지만,
+ * 조회 시작 시점에 미완료 Future를 먼저 저장하면 무효화가 조회 중인 항목까지 제거하므로 수정 전 값이 캐시에 남지 않습니다.
+ * 같은 상품의 동시 미스는 먼저 저장된 Future를 함께 기다립니다.
+ */
+@Component
+public class ProductCache {
+
+    private static final String CACHE_NAME = "products";
+
+    private final boolean enabled;
+    private final AsyncCache<Long, ProductResponse> cache;
+
+    public ProductCache(ProductCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maxEntries())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시에 없으면 loader로 조회합니다.
+     * 캐시에는 미완료 Future만 원자적으로 저장하고, DB 조회는 해시 버킷 잠금 밖(호출 스레드)에서 수행합니다.
+     * 조회 중 무효화된 결과는 호출자에게만 반환되고 캐시에는 남지 않으며, 조회가 실패하면 항목이 제거됩니다.
+     */
+    public ProductResponse get(Long productId, Function<Long, ProductResponse> loader) {
+        if (!enabled) {
+            return loader.apply(productId);
+        }
+        CompletableFuture<ProductResponse> loading = new CompletableFuture<>();
+        CompletableFuture<ProductResponse> future = cache.get(productId, (id, executor) -> loading);
+        if (future == loading) {
+            try {
+                loading.complete(loader.apply(productId));
+            } catch (RuntimeException | Error e) {
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+        return join(future);
+    }
+
+    /**
+     * 다건 조회. 캐시에 없는 ID만 loader로 한 번에 조회합니다.
+     * get과 같이 캐시에 없는 ID의 미완료 Future를 먼저 저장한 뒤 호출 스레드에서 loader를 실행하므로, 조회 중 무효화된 결과는 캐시에 남지 않습니다.
+     * loader 결과에 없는 ID(존재하지 않는 상품)는 캐시에 저장되지 않고 반환 Map에서도 빠집니다.
+     *
+     * @param loader 캐시에 없는 ID 집합을 받아 존재하는 상품만 반환
+     */
+    public Map<Long, ProductResponse> getAll(Collection<Long> productIds, Function<Set<Long>, List<ProductResponse>> loader) {
+        if (!enabled) {
+            return byId(loader.apply(Set.copyOf(productIds)));
+        }
+        CompletableFuture<Map<Long, ProductResponse>> loading = new CompletableFuture<>();
+        AtomicReference<Set<Long>> misses = new AtomicReference<>();
+        CompletableFuture<Map<Long, ProductResponse>> future = cache.getAll(productIds, (ids, executor) -> {
+            misses.set(Set.copyOf(ids));
+            return loading;
+        });
+        if (misses.get() != null) {
+            try {
+                loading.complete(byId(loader.apply(misses.get())));
+            } catch (RuntimeException | Error e) {
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+        return join(future);
+    }
+
+    /**
+     * 캐시된 응답. 캐시에 없거나, 조회 중이거나, 캐시가 비활성화된 경우 null
+     */
+    public ProductResponse getIfPresent(Long productId) {
+        if (!enabled) {
+            return null;
+        }
+        CompletableFuture<ProductResponse> future = cache.getIfPresent(productId);
+        return future != null && future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    public void put(ProductResponse product) {
+        if (enabled) {
+            cache.put(product.id(), CompletableFuture.completedFuture(product));
+        }
+    }
+
+    /**
+     * 항목을 제거합니다. 조회 중인 항목도 제거되며, 진행 중인 조회 결과는 다시 저장되지 않습니다.
+     */
+    public void evict(Long productId) {
+        cache.synchronous().invalidate(productId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.type() != ProductChangedEvent.Type.CREATED) {
+            evict(event.productId());
+        }
+    }
+
+    private static Map<Long, ProductResponse> byId(List<ProductResponse> products) {
+        Map<Long, ProductResponse> byId = new HashMap<>(products.size() * 2);
+        for (ProductResponse product : products) {
+            byId.put(product.id(), product);
+        }
+        return byId;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
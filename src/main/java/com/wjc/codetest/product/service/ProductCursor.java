@@ -0,0 +1,40 @@
+package com.wjc.codetest.product.service;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * 커서 기반 목록 조회에 사용하는 불투명(opaque) 토큰.
+ * 마지막으로 조회한 상품 ID를 Base64(URL-safe)로 인코딩하며, 클라이언트는 토큰 내용에 의존하지 않고 그대로 전달합니다.
+ */
+public final class ProductCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private ProductCursor() {
+    }
+
+    public static String encode(long lastProductId) {
+        return ENCODER.encodeToString(ByteBuffer.allocate(Long.BYTES).putLong(lastProductId).array());
+    }
+
+    /**
+     * 토큰이 없으면 첫 페이지(0)부터 조회합니다.
+     */
+    public static long decode(String token) {
+        if (token == null || token.isBlank()) {
+            return 0L;
+        }
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid cursor", e);
+        }
+        if (bytes.length != Long.BYTES) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+        return ByteBuffer.wrap(bytes).getLong();
+    }
+}
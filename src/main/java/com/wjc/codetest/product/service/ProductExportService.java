@@ -0,0 +1,55 @@
+package com.wjc.codetest.product.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import com.wjc.codetest.product.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 전체 카탈로그를 NDJSON(한 줄에 상품 하나)으로 내보냅니다.
+ * 전방향 커서로 읽은 row를 즉시 출력 스트림에 쓰고 영속성 컨텍스트에서 분리(detach)하므로,
+ * 카탈로그 크기와 무관하게 메모리 사용량이 일정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductExportService {
+
+    private final ProductRepository productRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return 내보낸 상품 수
+     */
+    @Transactional(readOnly = true)
+    public long exportTo(OutputStream out) throws IOException {
+        long exported = 0;
+        try (Stream<Product> products = productRepository.streamAll();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            Iterator<Product> iterator = products.iterator();
+            while (iterator.hasNext()) {
+                Product product = iterator.next();
+                generator.writeObject(ProductResponse.from(product));
+                generator.writeRaw('\n');
+                entityManager.detach(product);
+                exported++;
+            }
+        }
+        log.info("product export completed :: {} products", exported);
+        return exported;
+    }
+}
@@ -0,0 +1,51 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.model.domain.Product;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * INSERT 전에 상품 ID를 예약합니다. (write-behind 등록)
+ * Hibernate pooled 최적화와 같은 방식으로 시퀀스 1회 조회(값 hi)마다 (hi - allocationSize, hi] 구간을 메모리에서 발급하므로,
+ * 같은 시퀀스를 사용하는 엔티티 등록(save)과 ID가 겹치지 않고 ID 100건당 시퀀스 조회는 1회입니다.
+ * 서버 재기동 시 발급하지 않은 구간의 나머지 ID는 사용되지 않습니다.
+ *
+ * 구간 소진 시 시퀀스 조회(JDBC)를 잠금 안에서 수행하므로 synchronized 대신 ReentrantLock을 사용합니다.
+ * (가상 스레드에서 synchronized 블록 안의 I/O 대기는 캐리어 스레드를 점유합니다)
+ */
+@Component
+public class ProductIdAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nextValueQuery;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long next;
+    private long hi;
+
+    public ProductIdAllocator(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nextValueQuery = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect()
+                .getSequenceSupport()
+                .getSequenceNextValString(Product.ID_SEQUENCE);
+    }
+
+    public long next() {
+        lock.lock();
+        try {
+            if (next == 0 || next > hi) {
+                hi = jdbcTemplate.queryForObject(nextValueQuery, Long.class);
+                // 시퀀스의 첫 값(1)은 구간 하한이 음수가 되므로 1부터 발급합니다. (Hibernate는 첫 값을 받으면 시퀀스를 한 번 더 조회)
+                next = Math.max(hi - Product.ID_ALLOCATION_SIZE + 1, 1);
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
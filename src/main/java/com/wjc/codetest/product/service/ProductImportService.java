@@ -0,0 +1,128 @@
+package com.wjc.codetest.product.service;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.wjc.codetest.product.config.ProductImportProperties;
+import com.wjc.codetest.product.model.request.CreateProductRequest;
+import com.wjc.codetest.product.model.response.ImportProductResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NDJSON / CSV 상품 가져오기.
+ * 요청 본문을 한 row씩 스트리밍으로 파싱하고, chunkSize 단위로 별도 트랜잭션에서 커밋하므로
+ * 전체 건수와 무관하게 메모리 사용량과 트랜잭션 크기가 일정합니다.
+ * 이미 커밋된 chunk는 이후 오류가 발생해도 롤백되지 않습니다.
+ *
+ * 문법 오류를 만나면 이후 row의 경계를 신뢰할 수 없으므로 읽기를 중단하고, 오류 이전까지 읽은 유효한 row를 커밋한 뒤
+ * 가져온/제외된 row 수와 오류 위치를 결과로 반환합니다. (예외로 중단하지 않으므로 클라이언트는 어디까지 반영되었는지 알 수 있습니다)
+ */
+@Slf4j
+@Service
+public class ProductImportService {
+
+    private static final int MAX_FIELD_LENGTH = 255;
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    private final ProductService productService;
+    private final int chunkSize;
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvReader;
+
+    public ProductImportService(ProductService productService, ProductImportProperties properties, ObjectMapper objectMapper) {
+        this.productService = productService;
+        this.chunkSize = properties.chunkSize();
+        this.ndjsonReader = objectMapper.readerFor(CreateProductRequest.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.csvReader = new CsvMapper().readerFor(CreateProductRequest.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    public ImportProductResponse importProducts(InputStream in, Format format) throws IOException {
+        long startedAt = System.nanoTime();
+        long imported = 0;
+        long rejected = 0;
+        ImportProductResponse.Error error = null;
+        List<CreateProductRequest> chunk = new ArrayList<>(chunkSize);
+
+        ObjectReader reader = format == Format.CSV ? csvReader : ndjsonReader;
+        try (MappingIterator<CreateProductRequest> rows = reader.readValues(in)) {
+            while (true) {
+                CreateProductRequest row;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    row = rows.nextValue();
+                } catch (JsonParseException e) {
+                    error = malformed(e);
+                    break;
+                } catch (JsonMappingException e) {
+                    // 값 변환 실패는 해당 row만 제외하고, 다음 row부터 이어서 읽습니다.
+                    rejected++;
+                    continue;
+                }
+                if (!isValid(row)) {
+                    rejected++;
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    imported += commit(chunk);
+                }
+            }
+            imported += commit(chunk);
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        double rowsPerSecond = imported * 1_000_000_000d / Math.max(elapsedNanos, 1);
+        if (error != null) {
+            log.warn("product import aborted :: format={}, imported={}, rejected={}, malformed input at line {}, column {}: {}",
+                    format, imported, rejected, error.line(), error.column(), error.message());
+        } else {
+            log.info("product import completed :: format={}, imported={}, rejected={}, rows/sec={}",
+                    format, imported, rejected, Math.round(rowsPerSecond));
+        }
+        return new ImportProductResponse(imported, rejected, elapsedNanos / 1_000_000, rowsPerSecond, error);
+    }
+
+    private static ImportProductResponse.Error malformed(JsonParseException e) {
+        JsonLocation location = e.getLocation();
+        return location == null
+                ? new ImportProductResponse.Error(-1, -1, e.getOriginalMessage())
+                : new ImportProductResponse.Error(location.getLineNr(), location.getColumnNr(), e.getOriginalMessage());
+    }
+
+    private int commit(List<CreateProductRequest> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        int committed = productService.createAll(chunk).createdCount();
+        chunk.clear();
+        return committed;
+    }
+
+    private static boolean isValid(CreateProductRequest row) {
+        return isValidField(row.getCategory()) && isValidField(row.getName());
+    }
+
+    private static boolean isValidField(String value) {
+        return value != null && !value.isBlank() && value.length() <= MAX_FIELD_LENGTH;
+    }
+}
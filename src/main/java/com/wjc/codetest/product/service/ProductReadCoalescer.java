@@ -0,0 +1,42 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.model.response.ProductResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 캐시 미스/만료 직후 같은 상품, 같은 카테고리 페이지로 몰리는 동시 DB 조회를 하나로 합칩니다.
+ * 인기 상품이나 첫 페이지가 캐시에서 만료되는 순간 수백 건의 동일 조회가 DB로 전달되는 것(cache stampede)을 막습니다.
+ * 불변 응답(ProductResponse, 조회 결과 Page)만 공유하며, 수정/삭제에 사용하는 Entity 조회(findById)는 합치지 않습니다.
+ * 단건 조회는 ProductCache가 꺼진 경우에만 사용합니다. 캐시가 켜져 있으면 캐시의 미완료 Future가 같은 역할을 하며,
+ * 캐시 loader 안에서 다시 합치면 무효화 이후의 미스가 무효화 이전 조회에 합류할 수 있습니다.
+ */
+@Component
+public class ProductReadCoalescer {
+
+    private final SingleFlight<Long, ProductResponse> products;
+    private final SingleFlight<PageKey, Page<ProductResponse>> pages;
+
+    public ProductReadCoalescer(MeterRegistry meterRegistry) {
+        this.products = new SingleFlight<>("product", meterRegistry);
+        this.pages = new SingleFlight<>("product_list", meterRegistry);
+    }
+
+    public ProductResponse product(Long productId, Supplier<ProductResponse> loader) {
+        return products.execute(productId, loader);
+    }
+
+    public Page<ProductResponse> page(Integer categoryId, Pageable pageable, Supplier<Page<ProductResponse>> loader) {
+        return pages.execute(new PageKey(categoryId, pageable), loader);
+    }
+
+    /**
+     * 카테고리 ID + 페이지 번호/크기/정렬 (PageRequest는 값 기반 equals/hashCode를 제공합니다)
+     */
+    private record PageKey(Integer categoryId, Pageable pageable) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.config.ProductSearchProperties;
+import com.wjc.codetest.product.index.ProductNameIndex;
+import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.model.request.ProductSearchMode;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import com.wjc.codetest.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * 상품명 접두어/부분 문자열 검색.
+ * 상품명 인덱스(ProductNameIndex)가 활성화된 경우 메모리에서 검색하고, 비활성화된 경우 DB LIKE 조회로 처리합니다.
+ * 검색어의 대소문자는 구분하지 않으며, 접두어 검색은 두 경우 모두 소문자 상품명, ID 순으로 정렬합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductSearchService {
+
+    private final ProductNameIndex productNameIndex;
+    private final ProductRepository productRepository;
+    private final ProductSearchProperties properties;
+
+    public List<ProductResponse> search(String query, ProductSearchMode mode, int size) {
+        Assert.hasText(query, "query must not be blank");
+        Assert.isTrue(size > 0 && size <= properties.maxResults(),
+                "size must be between 1 and " + properties.maxResults());
+
+        if (productNameIndex.enabled()) {
+            return mode == ProductSearchMode.PREFIX
+                    ? productNameIndex.searchPrefix(query, size)
+                    : productNameIndex.searchContains(query, size);
+        }
+        List<Product> products = mode == ProductSearchMode.PREFIX
+                ? productRepository.findByNamePrefixIgnoreCase(query, Limit.of(size))
+                : productRepository.findByNameContainingIgnoreCaseOrderByIdAsc(query, Limit.of(size));
+        return products.stream().map(ProductResponse::from).toList();
+    }
+}
@@ -1,16 +1,40 @@
 package com.wjc.codetest.product.service;
 
+import com.wjc.codetest.product.config.ProductBatchProperties;
+import com.wjc.codetest.product.config.ProductListProperties;
+import com.wjc.codetest.product.index.ProductIndex;
+import com.wjc.codetest.product.index.ProductNameIndex;
+import com.wjc.codetest.product.model.event.ProductChangedEvent;
+import com.wjc.codetest.product.model.event.ProductsCreatedEvent;
 import com.wjc.codetest.product.model.request.CreateProductRequest;
+import com.wjc.codetest.product.model.request.GetProductBatchRequest;
+import com.wjc.codetest.product.model.request.GetProductCursorListRequest;
 import com.wjc.codetest.product.model.request.GetProductListRequest;
+import com.wjc.codetest.product.model.request.PatchProductRequest;
+import com.wjc.codetest.product.model.request.ProductListSort;
+import com.wjc.codetest.product.model.domain.Category;
 import com.wjc.codetest.product.model.domain.Product;
 import com.wjc.codetest.product.model.request.UpdateProductRequest;
+import com.wjc.codetest.product.model.response.BulkCreateProductResponse;
+import com.wjc.codetest.product.model.response.CategoryCountResponse;
+import com.wjc.codetest.product.model.response.ProductBatchResponse;
+import com.wjc.codetest.product.model.response.ProductCursorListResponse;
+import com.wjc.codetest.product.model.response.ProductResponse;
 import com.wjc.codetest.product.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
 
 import java.util.*;
 
@@ -31,7 +55,32 @@ import java.util.*;
 @RequiredArgsConstructor
 public class ProductService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+    /**
+     * spring.jpa.properties.hibernate.jdbc.batch_size 와 동일하게 맞춰, flush 1회가 JDBC 배치 1회가 되도록 합니다.
+     */
+    private static final int BULK_FLUSH_SIZE = 500;
+
     private final ProductRepository productRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final CategoryDictionary categoryDictionary;
+    private final ProductCache productCache;
+    private final ProductIndex productIndex;
+    private final ProductNameIndex productNameIndex;
+    private final ProductListProperties listProperties;
+    private final ProductBatchProperties batchProperties;
+    private final ProductWriteBuffer writeBuffer;
+    private final ProductReadCoalescer readCoalescer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 단건 등록이 커밋 전에 반환되는지(write-behind) 여부. 컨트롤러는 이 경우 200 대신 202 Accepted로 응답합니다.
+     */
+    public boolean isCreateDeferred() {
+        return writeBuffer.isEnabled();
+    }
 
     /**
      * 문제:
@@ -48,10 +97,59 @@ public class ProductService {
      * 2. 데이터 변경 작업이 이루어지는 메서드에 @Transactional 어노테이션 추가하여 예외 발생 시 데이터 일관성 보장.
      *    (추후 연관관계 매핑이 추가 될 경우 로직 실행 중간 예외 발생 시 롤백을 위해 필요)
      * 3. Spring Assert 또는 Custom Assert를 활용하여 로직 실행 전 DTO 내 필드에 대한 유효성 검증 로직 추가(Assert.notEmpty(), Assert.notNull() 등)
+     *
+     * write-behind(product.write-behind.enabled)가 켜져 있으면 ID만 예약하여 버퍼에 적재하고 바로 반환합니다. (커밋은 ProductWriteBuffer가 배치로 수행)
+     * 이 경우 반환 시점에는 아직 커밋 전이므로 조회/목록에 보이지 않으며, 커밋 전에 프로세스가 비정상 종료되면 유실됩니다. (isCreateDeferred 참고)
      */
     public Product create(CreateProductRequest dto) {
-        Product product = new Product(dto.getCategory(), dto.getName());
-        return productRepository.save(product);
+        if (writeBuffer.isEnabled()) {
+            return writeBuffer.submit(categoryDictionary.resolve(dto.getCategory()), dto.getName());
+        }
+        Product product = productRepository.save(new Product(categoryDictionary.resolve(dto.getCategory()), dto.getName()));
+        eventPublisher.publishEvent(ProductChangedEvent.created(product));
+        return product;
+    }
+
+    /**
+     * 대량 등록.
+     * 단일 트랜잭션에서 BULK_FLUSH_SIZE 단위로 flush하여 JDBC 배치 INSERT로 전송하고,
+     * flush 후 영속성 컨텍스트를 비워 등록 건수와 무관하게 메모리 사용량을 일정하게 유지합니다.
+     * ID는 pooled 시퀀스로 메모리에서 발급되므로 건당 ID 조회 왕복이 발생하지 않습니다.
+     * 등록 이벤트는 상품마다 발행하지 않고 flush 단위로 묶어(ProductsCreatedEvent) 발행합니다.
+     * 새 카테고리 등록은 커넥션을 따로 사용하므로, 카테고리를 먼저 resolve한 뒤 트랜잭션을 엽니다. (CategoryDictionary 참고)
+     */
+    public BulkCreateProductResponse createAll(List<CreateProductRequest> dtos) {
+        Assert.notEmpty(dtos, "products must not be empty");
+        Map<String, Category> categories = categoryDictionary.resolveAll(
+                dtos.stream().map(CreateProductRequest::getCategory).toList());
+        return transactionTemplate.execute(status -> {
+            List<Long> productIds = new ArrayList<>(dtos.size());
+            List<Product> batch = new ArrayList<>(BULK_FLUSH_SIZE);
+            for (CreateProductRequest dto : dtos) {
+                batch.add(new Product(categories.get(dto.getCategory()), dto.getName()));
+                if (batch.size() == BULK_FLUSH_SIZE) {
+                    flushBatch(batch, productIds);
+                }
+            }
+            flushBatch(batch, productIds);
+            return new BulkCreateProductResponse(productIds.size(), productIds);
+        });
+    }
+
+    private void flushBatch(List<Product> batch, List<Long> productIds) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        productRepository.saveAll(batch);
+        productRepository.flush();
+        List<ProductChangedEvent> created = new ArrayList<>(batch.size());
+        for (Product product : batch) {
+            productIds.add(product.getId());
+            created.add(ProductChangedEvent.created(product));
+        }
+        eventPublisher.publishEvent(new ProductsCreatedEvent(created));
+        entityManager.clear();
+        batch.clear();
     }
 
     /**
@@ -69,15 +167,89 @@ public class ProductService {
      * 2. 커스텀 예외 클래스를 생성하여 상황에 맞는 예외를 던지도록 수정합니다.(예: ProductNotFoundException)
      * 3-1. 응답을 반환할 모델 객체를 별도로 설계하여 Entity가 Service 레이어 외부로 노출되는것을 방지.
      * 3-2. Service 레이어에서 필요한 로직에 따라 응답을 모델 객체로 변환하여 전달.
+     *
+     * 수정/삭제 이벤트에 이전 카테고리 이름이 필요하므로 카테고리를 함께 조회합니다.
      */
     public Product getProductById(Long productId) {
-        Optional<Product> productOptional = productRepository.findById(productId);
+        Optional<Product> productOptional = productRepository.findWithCategoryById(productId);
         if (!productOptional.isPresent()) {
             throw new RuntimeException("product not found");
         }
         return productOptional.get();
     }
 
+    /**
+     * 문제: 조회가 쓰기 대비 압도적으로 많음에도 단건 조회마다 DB를 조회합니다.
+     * 원인: 조회 결과를 재사용하지 않음.
+     * 개선안: 불변 응답 모델(ProductResponse)을 ProductCache에 저장하여 재사용하고, 수정/삭제 커밋 이후 무효화합니다.
+     *        (Entity는 가변 객체이므로 요청 간 공유하지 않으며, 캐시 미스 시에도 DTO Projection으로 조회하여 Entity를 적재하지 않습니다.)
+     * product.index.enabled=true 인 경우 캐시 대신 전체 상품이 적재된 ProductIndex에서 조회합니다.
+     * 같은 상품의 동시 캐시 미스는 캐시에 저장된 미완료 Future로 합쳐지므로 DB 조회는 1회만 수행합니다.
+     * 캐시가 꺼진 경우에만 ProductReadCoalescer로 합칩니다. (캐시 loader 안에서 합치면, 무효화 이후의 미스가 무효화 이전에 시작된
+     * 조회에 합류하여 이전 값이 TTL 동안 캐시에 남습니다)
+     */
+    public ProductResponse getProduct(Long productId) {
+        if (productIndex.enabled()) {
+            return productIndex.find(productId).orElseThrow(() -> new RuntimeException("product not found"));
+        }
+        if (productCache.enabled()) {
+            return productCache.get(productId, this::findProduct);
+        }
+        return readCoalescer.product(productId, () -> findProduct(productId));
+    }
+
+    private ProductResponse findProduct(Long productId) {
+        return productRepository.findResponseById(productId).orElseThrow(() -> new RuntimeException("product not found"));
+    }
+
+    /**
+     * 다건 조회.
+     * 인덱스가 활성화된 경우 메모리에서만 처리하고, 아니면 캐시에 없는 상품만 중복을 제거한 뒤 chunkSize 단위 IN 쿼리로 조회하여 캐시에 적재합니다.
+     * 캐시 적재는 단건 조회와 같이 조회 시작 전에 자리를 잡아 두므로(ProductCache.getAll), 조회 중 커밋된 수정의 무효화가 이전 값으로 덮이지 않습니다.
+     * 결과는 요청 ID 순서(중복 포함)를 따르며, 존재하지 않는 상품은 전체 요청을 실패시키지 않고 missing 항목으로 표시합니다.
+     */
+    public ProductBatchResponse getProducts(GetProductBatchRequest dto) {
+        List<Long> ids = dto.getIds();
+        Assert.notEmpty(ids, "ids must not be empty");
+        Assert.isTrue(ids.size() <= batchProperties.maxIds(), "ids must not exceed " + batchProperties.maxIds());
+        Assert.noNullElements(ids, "ids must not contain null");
+
+        Map<Long, ProductResponse> found;
+        if (productIndex.enabled()) {
+            found = new HashMap<>(ids.size() * 2);
+            for (Long id : new LinkedHashSet<>(ids)) {
+                productIndex.find(id).ifPresent(product -> found.put(id, product));
+            }
+        } else {
+            found = productCache.getAll(new LinkedHashSet<>(ids), this::findResponsesByIdIn);
+        }
+
+        List<ProductBatchResponse.Entry> entries = new ArrayList<>(ids.size());
+        int missing = 0;
+        for (Long id : ids) {
+            ProductResponse product = found.get(id);
+            if (product == null) {
+                entries.add(ProductBatchResponse.Entry.missing(id));
+                missing++;
+            } else {
+                entries.add(ProductBatchResponse.Entry.found(product));
+            }
+        }
+        return new ProductBatchResponse(entries, missing);
+    }
+
+    /**
+     * IN 목록 길이가 DB 바인드 파라미터 제한을 넘지 않도록 chunkSize 단위로 나누어 조회합니다.
+     */
+    private List<ProductResponse> findResponsesByIdIn(Set<Long> ids) {
+        List<Long> misses = new ArrayList<>(ids);
+        List<ProductResponse> products = new ArrayList<>(misses.size());
+        for (int from = 0; from < misses.size(); from += batchProperties.chunkSize()) {
+            products.addAll(productRepository.findResponsesByIdIn(misses.subList(from, Math.min(from + batchProperties.chunkSize(), misses.size()))));
+        }
+        return products;
+    }
+
     /**
      * 문제:
      * 1. Entity를 직접 반환하여 응답 구조가 유연하지 못합니다.
@@ -100,14 +272,147 @@ public class ProductService {
      * 4-2. 필요할 경우 별도의 Mapper Util 클래스 혹은 Mapper 라이브러리를 활용을 검토합니다.
      */
     public Product update(UpdateProductRequest dto) {
-        Product product = getProductById(dto.getId());
-        product.setCategory(dto.getCategory());
+        return update(getProductById(dto.getId()), dto);
+    }
+
+    /**
+     * If-Match: * 수정. 조건 없는 수정과 같지만, 상품이 없으면 전제 조건 불일치(412)로 처리합니다.
+     *
+     * @throws OptimisticLockingFailureException 상품이 없는 경우
+     */
+    public Product updateIfExists(UpdateProductRequest dto) {
+        Product product = productRepository.findWithCategoryById(dto.getId())
+                .orElseThrow(() -> new OptimisticLockingFailureException("If-Match: * but product does not exist :: " + dto.getId()));
+        return update(product, dto);
+    }
+
+    /**
+     * 조회한 상품을 save()로 병합합니다. 조회 이후 다른 수정이 커밋되었다면 @Version 검사로 실패하며,
+     * 클라이언트가 전제 조건(If-Match)을 보내지 않은 충돌이므로 412가 아닌 409로 응답하도록 ConcurrencyFailureException으로 구분합니다.
+     */
+    private Product update(Product product, UpdateProductRequest dto) {
+        String previousCategory = product.getCategory();
+        String previousName = product.getName();
+        product.setCategory(categoryDictionary.resolve(dto.getCategory()));
         product.setName(dto.getName());
-        Product updatedProduct = productRepository.save(product);
+        Product updatedProduct;
+        try {
+            updatedProduct = productRepository.save(product);
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConcurrencyFailureException("product was modified concurrently :: " + product.getId(), e);
+        }
+        // save()가 반환한 병합본의 카테고리는 지연 로딩 프록시이므로, 트랜잭션 밖에서 이름을 읽지 않도록 요청 값으로 이벤트를 만듭니다.
+        eventPublisher.publishEvent(ProductChangedEvent.updated(previousCategory, previousName,
+                new ProductResponse(updatedProduct.getId(), dto.getCategory(), dto.getName(), updatedProduct.getVersion())));
         return updatedProduct;
 
     }
 
+    /**
+     * If-Match 조건부 수정.
+     * 조회 후 save()로 병합하는 대신 버전 조건부 단일 UPDATE로 처리하여, 동시 수정 시 나중 요청이 먼저 요청의 변경을 덮어쓰지 않고 실패(412)합니다.
+     * 카테고리 집계 갱신에 필요한 이전 상태는 인덱스/캐시에 같은 버전이 있으면 그대로 사용하고, 없을 때만 Projection으로 조회합니다.
+     * (버전이 같다면 내용도 같으므로 캐시된 이전 상태를 신뢰할 수 있습니다)
+     *
+     * @param expectedVersion 클라이언트가 마지막으로 조회한 버전 (ETag)
+     * @throws OptimisticLockingFailureException 현재 버전이 expectedVersion과 다른 경우
+     */
+    public ProductResponse updateIfMatch(UpdateProductRequest dto, long expectedVersion) {
+        Assert.notNull(dto.getId(), "id must not be null");
+        Category category = categoryDictionary.resolve(dto.getCategory());
+        return transactionTemplate.execute(status -> {
+            ProductResponse previous = previousState(dto.getId(), expectedVersion);
+            int updated = productRepository.updateIfVersion(dto.getId(), expectedVersion, category, dto.getName());
+            if (updated == 0) {
+                throw new OptimisticLockingFailureException("product version mismatch :: " + dto.getId());
+            }
+            ProductResponse product = new ProductResponse(dto.getId(), dto.getCategory(), dto.getName(), expectedVersion + 1);
+            eventPublisher.publishEvent(ProductChangedEvent.updated(previous.category(), previous.name(), product));
+            return product;
+        });
+    }
+
+    /**
+     * 부분 수정 (PATCH). Entity 조회 + 전체 컬럼 UPDATE 대신, 전달된 필드만 변경하는 UPDATE를 실행합니다.
+     * 변경 이벤트(PATCHED)에는 수정 후 상태와 버전, 그리고 카테고리 집계를 위한 이전 카테고리를 담습니다.
+     * - 이름만 변경: 조회 없이 UPDATE 1회로 처리하고, 카테고리/버전 없이 이름만 담은 PATCHED 이벤트를 발행합니다. (캐시 무효화에는 충분)
+     *   버전 순서로 상태를 보관하는 인덱스(product.index / product.search)가 켜져 있을 때만, 같은 트랜잭션에서 수정 후 상태를 PK로 조회하여
+     *   전체 상태와 버전을 담습니다. (행은 이 UPDATE로 잠겨 있어 정확히 이 수정이 만든 버전이며, 이전 카테고리는 수정 후 카테고리와 같음)
+     * - 카테고리 변경: 인덱스/캐시에 이전 상태가 있으면 그 버전을 조건으로 UPDATE합니다. (버전이 같다면 카테고리/이름도 같음)
+     *   이전 상태를 모르거나 그 사이 다른 수정으로 버전이 달라졌다면(0건), 잠금 조회(FOR UPDATE)로 이전 상태를 읽고 그 버전으로 UPDATE합니다.
+     *
+     * 새 카테고리 등록은 커넥션을 따로 사용하므로, 카테고리를 먼저 resolve한 뒤 트랜잭션을 엽니다. (CategoryDictionary 참고)
+     *
+     * @return 수정된 행 수 (상품이 없으면 0)
+     */
+    public int patch(Long productId, PatchProductRequest dto) {
+        Assert.notNull(productId, "productId must not be null");
+        Assert.isTrue(dto.getCategory() != null || dto.getName() != null, "category or name must be supplied");
+        if (dto.getCategory() == null) {
+            return transactionTemplate.execute(status -> patchName(productId, dto.getName()));
+        }
+        Category category = categoryDictionary.resolve(dto.getCategory());
+        return transactionTemplate.execute(status -> patchCategory(productId, category, dto));
+    }
+
+    private int patchName(Long productId, String name) {
+        int updated = productRepository.updateName(productId, name);
+        if (updated == 0) {
+            return 0;
+        }
+        if (productIndex.enabled() || productNameIndex.enabled()) {
+            ProductResponse product = productRepository.findResponseById(productId)
+                    .orElseThrow(() -> new IllegalStateException("patched product not found :: " + productId));
+            eventPublisher.publishEvent(ProductChangedEvent.patched(product.category(), null, product));
+        } else {
+            eventPublisher.publishEvent(ProductChangedEvent.nameChanged(productId, name));
+        }
+        return updated;
+    }
+
+    private int patchCategory(Long productId, Category category, PatchProductRequest dto) {
+        ProductResponse previous = knownState(productId);
+        int updated = previous == null ? 0 : updateIfVersion(previous, category, dto);
+        if (updated == 0) {
+            previous = productRepository.findResponseByIdForUpdate(productId).orElse(null);
+            if (previous == null) {
+                return 0;
+            }
+            updated = updateIfVersion(previous, category, dto);
+        }
+        ProductResponse product = new ProductResponse(productId, dto.getCategory(),
+                dto.getName() == null ? previous.name() : dto.getName(), previous.version() + 1);
+        eventPublisher.publishEvent(ProductChangedEvent.patched(previous.category(), previous.name(), product));
+        return updated;
+    }
+
+    private int updateIfVersion(ProductResponse previous, Category category, PatchProductRequest dto) {
+        return productRepository.updateIfVersion(previous.id(), previous.version(), category,
+                dto.getName() == null ? previous.name() : dto.getName());
+    }
+
+    private ProductResponse previousState(Long productId, long expectedVersion) {
+        ProductResponse known = knownState(productId);
+        if (known != null && Objects.equals(known.version(), expectedVersion)) {
+            return known;
+        }
+        ProductResponse current = productRepository.findResponseById(productId)
+                .orElseThrow(() -> new RuntimeException("product not found"));
+        if (!Objects.equals(current.version(), expectedVersion)) {
+            throw new OptimisticLockingFailureException("product version mismatch :: " + productId);
+        }
+        return current;
+    }
+
+    /**
+     * 인덱스(활성화된 경우) 또는 캐시에 적재된 상품 상태. 오래된 상태일 수 있으므로 버전 조건과 함께 사용합니다.
+     */
+    private ProductResponse knownState(Long productId) {
+        return productIndex.enabled()
+                ? productIndex.find(productId).orElse(null)
+                : productCache.getIfPresent(productId);
+    }
+
     /**
      * 문제: 불필요한 데이터 조회가 발생하고 있습니다.
      * 원인: getProductById 메서드를 통해 데이터를 조회한 후 삭제 작업을 수행.
@@ -115,22 +420,95 @@ public class ProductService {
      */
     public void deleteById(Long productId) {
         Product product = getProductById(productId);
-        productRepository.delete(product);
+        try {
+            productRepository.delete(product);
+        } catch (OptimisticLockingFailureException e) {
+            // 조건 없는 삭제의 동시 수정 충돌 (409, update 참고)
+            throw new ConcurrencyFailureException("product was modified concurrently :: " + productId, e);
+        }
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(product));
     }
 
     /**
-     * 문제: Page 객체의 content에 Entity를 직접 사용하여 응답 구조가 유연하지 못합니다.
-     * 원인: Service 레이어에서 도메인 Entity를 그대로 반환.
-     * 개선안:
-     * 1-1. 응답을 반환할 모델 객체를 별도로 설계하여 Entity가 Service 레이어 외부로 노출되는것을 방지.
-     * 1-2. Service 레이어에서 필요한 로직에 따라 응답을 모델 객체로 변환하여 전달.
+     * 문제: 조회 전용임에도 Entity를 영속성 컨텍스트에 적재하여 dirty checking용 스냅샷 복사 비용이 발생하며, Entity가 응답으로 노출됩니다.
+     * 원인: Repository에서 Entity를 조회하여 그대로 반환.
+     * 개선안: JPQL 생성자 표현식으로 불변 응답 모델(ProductResponse)을 직접 조회(DTO Projection)하고, 읽기 전용 트랜잭션으로 실행합니다.
+     *
+     * product.list.count-query=false 인 경우 Slice로 조회하여 요청마다 발생하던 COUNT 쿼리를 생략하고,
+     * 전체 건수는 CategoryRegistry에 유지되는 카테고리별 집계값으로 채웁니다.
+     *
+     * 문제: 카테고리로 필터링한 결과를 다시 category로 정렬하여 정렬 기준이 없는 것과 같고, 페이지 순서가 보장되지 않습니다.
+     * 원인: 필터 조건과 동일한 컬럼으로 정렬.
+     * 개선안: (category_id, product_id), (category_id, name, product_id) 인덱스 순서와 일치하는 정렬(ProductListSort)만 허용하여 정렬 단계 없이 인덱스 순서로 조회합니다.
+     *
+     * product.index.enabled=true 이고 ID 순 정렬인 경우 ProductIndex에서 DB 조회 없이 페이지와 전체 건수를 구성합니다.
+     * DB 조회 시 카테고리 이름은 CategoryDictionary에서 정수 ID로 변환하여 비교하며, 사전에 없는 카테고리는 조회 없이 빈 페이지를 반환합니다.
+     * 같은 카테고리/페이지의 동시 조회는 ProductReadCoalescer로 합쳐 DB 조회 1회만 수행합니다.
+     */
+    public Page<ProductResponse> getListByCategory(GetProductListRequest dto) {
+        ProductListSort sort = ProductListSort.orDefault(dto.getSort());
+        PageRequest pageRequest = PageRequest.of(dto.getPage(), dto.getSize(), sort.toSort());
+        if (productIndex.enabled() && sort == ProductListSort.ID) {
+            return new PageImpl<>(productIndex.findByCategory(dto.getCategory(), pageRequest.getOffset(), dto.getSize()),
+                    pageRequest, productIndex.count(dto.getCategory()));
+        }
+        Optional<Integer> categoryId = categoryDictionary.idOf(dto.getCategory());
+        if (categoryId.isEmpty()) {
+            return Page.empty(pageRequest);
+        }
+        return readCoalescer.page(categoryId.get(), pageRequest, () -> findPage(categoryId.get(), dto.getCategory(), pageRequest));
+    }
+
+    private Page<ProductResponse> findPage(Integer categoryId, String category, PageRequest pageRequest) {
+        if (listProperties.countQuery()) {
+            return productRepository.findResponsesByCategory(categoryId, pageRequest);
+        }
+        Slice<ProductResponse> slice = productRepository.findResponseSliceByCategory(categoryId, pageRequest);
+        return new PageImpl<>(slice.getContent(), pageRequest, categoryRegistry.productCount(category));
+    }
+
+    /**
+     * 커서 기반 목록 조회.
+     * size + 1건을 조회하여 다음 페이지 존재 여부를 판단하므로 별도의 COUNT 쿼리가 발생하지 않습니다.
+     * product.index.enabled=true 인 경우 ProductIndex의 카테고리별 ID 배열에서 이진 탐색으로 시작 위치를 찾습니다.
      */
-    public Page<Product> getListByCategory(GetProductListRequest dto) {
-        PageRequest pageRequest = PageRequest.of(dto.getPage(), dto.getSize(), Sort.by(Sort.Direction.ASC, "category"));
-        return productRepository.findAllByCategory(dto.getCategory(), pageRequest);
+    public ProductCursorListResponse getListByCategoryAfter(GetProductCursorListRequest dto) {
+        Assert.isTrue(dto.getSize() > 0 && dto.getSize() <= MAX_CURSOR_PAGE_SIZE,
+                "size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        long after = ProductCursor.decode(dto.getAfter());
+        List<ProductResponse> rows = productIndex.enabled()
+                ? productIndex.findByCategoryAfter(dto.getCategory(), after, dto.getSize() + 1)
+                : categoryDictionary.idOf(dto.getCategory())
+                        .map(categoryId -> productRepository.findResponsesByCategoryAfter(categoryId, after, Limit.of(dto.getSize() + 1)))
+                        .orElseGet(List::of);
+
+        if (rows.size() <= dto.getSize()) {
+            return new ProductCursorListResponse(rows, null);
+        }
+        List<ProductResponse> products = rows.subList(0, dto.getSize());
+        return new ProductCursorListResponse(products, ProductCursor.encode(products.get(products.size() - 1).id()));
     }
 
+    /**
+     * 문제: 호출 빈도가 높은 API임에도 호출마다 상품 테이블 전체를 대상으로 SELECT DISTINCT가 실행됩니다.
+     * 원인: 카테고리 목록을 매번 상품 테이블에서 계산.
+     * 개선안: CategoryRegistry에 기동 시 적재 후 쓰기 경로에서 갱신되는 불변 카테고리 목록을 두고, DB 조회 없이 반환합니다.
+     */
     public List<String> getUniqueCategories() {
-        return productRepository.findDistinctCategories();
+        return categoryRegistry.categories();
+    }
+
+    /**
+     * 카테고리 목록 버전. 목록을 조회하기 전에 읽어야 응답의 ETag가 본문보다 새로운 값이 되지 않습니다.
+     */
+    public String getUniqueCategoriesVersion() {
+        return categoryRegistry.categoriesVersion();
+    }
+
+    /**
+     * 카테고리별 상품 수. 쓰기 경로에서 갱신되는 CategoryRegistry 집계값을 반환하며 DB를 조회하지 않습니다.
+     */
+    public List<CategoryCountResponse> getCategoryStats() {
+        return categoryRegistry.productCounts();
     }
 }
\ No newline at end of file
@@ -0,0 +1,250 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.config.ProductWriteBehindProperties;
+import com.wjc.codetest.product.model.domain.Category;
+import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.model.event.ProductChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 등록 write-behind 버퍼.
+ * 등록 요청은 ID만 예약(ProductIdAllocator)하여 고정 크기 버퍼에 적재한 뒤 바로 반환하고,
+ * 전용 스레드가 batchSize 건 또는 flushInterval 경과 시점 중 먼저 도달한 시점에 JDBC 배치 INSERT 1회 + 커밋 1회로 반영합니다.
+ * 등록이 몰리는 구간에도 DB에는 건당 트랜잭션 대신 배치 단위 트랜잭션만 전달됩니다.
+ *
+ * 버퍼가 가득 차면 등록 요청은 offerTimeout 동안 대기(backpressure)하고, 그래도 공간이 없으면 RejectedExecutionException(503)으로 거절합니다.
+ * 커밋 이후 CREATED 이벤트를 발행하므로, 응답 이후 커밋 전까지는 등록된 상품이 조회/목록/집계에 보이지 않습니다.
+ * 종료 시에는 새 등록을 거절하고 버퍼에 남은 등록을 drainTimeout 안에서 모두 커밋합니다. 프로세스가 비정상 종료되면 버퍼의 등록은 유실됩니다.
+ *
+ * JDBC로 직접 INSERT하므로, 쿼리 캐시(l2cache 프로파일)가 켜져 있으면 커밋 후 product 테이블의 쿼리 캐시 결과를 직접 무효화합니다.
+ */
+@Slf4j
+@Component
+public class ProductWriteBuffer implements SmartLifecycle {
+
+    private static final String INSERT_SQL = "INSERT INTO product (product_id, category_id, name, version) VALUES (?, ?, ?, 0)";
+    private static final String[] QUERY_SPACES = {"product"};
+
+    private final ProductWriteBehindProperties properties;
+    private final ProductIdAllocator idAllocator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SessionFactoryImplementor sessionFactory;
+    private final BlockingQueue<Pending> queue;
+    private final Counter flushedRows;
+    private final Counter rejectedRows;
+    private final Counter failedRows;
+    private final Timer flushTimer;
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ProductWriteBuffer(ProductWriteBehindProperties properties,
+                              ProductIdAllocator idAllocator,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher eventPublisher,
+                              EntityManagerFactory entityManagerFactory,
+                              MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.idAllocator = idAllocator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.queue = new ArrayBlockingQueue<>(properties.capacity());
+        this.flushedRows = meterRegistry.counter("product.write_behind.rows", "result", "flushed");
+        this.rejectedRows = meterRegistry.counter("product.write_behind.rows", "result", "rejected");
+        this.failedRows = meterRegistry.counter("product.write_behind.rows", "result", "failed");
+        this.flushTimer = meterRegistry.timer("product.write_behind.flush");
+        meterRegistry.gauge("product.write_behind.queue", queue, BlockingQueue::size);
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * ID를 예약하여 버퍼에 적재하고, 예약된 ID를 가진 등록 대기 상품을 반환합니다.
+     *
+     * @throws RejectedExecutionException 종료 중이거나 offerTimeout 동안 버퍼에 공간이 생기지 않은 경우
+     */
+    public Product submit(Category category, String name) {
+        if (!running) {
+            rejectedRows.increment();
+            throw new RejectedExecutionException("product write buffer is not running");
+        }
+        Product product = Product.reserved(idAllocator.next(), category, name);
+        boolean accepted;
+        try {
+            accepted = queue.offer(new Pending(product, category == null ? null : category.getId()),
+                    properties.offerTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            rejectedRows.increment();
+            throw new RejectedExecutionException("product write buffer is full");
+        }
+        return product;
+    }
+
+    @Override
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        running = true;
+        flusher = Thread.ofPlatform().name("product-write-behind").daemon(false).start(this::run);
+        log.info("product write-behind started :: capacity={}, batchSize={}, flushInterval={}",
+                properties.capacity(), properties.batchSize(), properties.flushInterval());
+    }
+
+    /**
+     * 새 등록을 거절한 뒤, 플러시 스레드가 버퍼를 모두 비울 때까지 drainTimeout 동안 기다립니다.
+     * 웹 서버가 요청 처리를 멈춘 뒤, DataSource가 닫히기 전에 실행되도록 phase를 웹 서버보다 낮게 지정합니다.
+     */
+    @Override
+    public void stop() {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        try {
+            flusher.join(properties.drainTimeout());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (flusher.isAlive()) {
+            log.error("product write-behind drain timed out :: {} buffered products not committed", queue.size());
+        } else {
+            log.info("product write-behind drained");
+        }
+        flusher = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(properties.batchSize());
+        long intervalNanos = properties.flushInterval().toNanos();
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(intervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + intervalNanos;
+                while (batch.size() < properties.batchSize()) {
+                    if (queue.drainTo(batch, properties.batchSize() - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0 && running ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 종료는 running 플래그로만 처리하며, 인터럽트로 버퍼를 버리지 않습니다.
+                Thread.interrupted();
+            }
+            if (!batch.isEmpty()) {
+                flushTimer.record(() -> flush(batch));
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치 전체를 트랜잭션 1회로 커밋합니다. 실패하면 원인 row만 제외하도록 건별 트랜잭션으로 다시 시도합니다.
+     */
+    private void flush(List<Pending> batch) {
+        List<Pending> committed;
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(batch));
+            committed = batch;
+        } catch (DataAccessException e) {
+            log.warn("product write-behind batch failed, retrying row by row :: size={}, cause={}", batch.size(), e.getMessage());
+            committed = new ArrayList<>(batch.size());
+            for (Pending pending : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(pending)));
+                    committed.add(pending);
+                } catch (DataAccessException rowFailure) {
+                    failedRows.increment();
+                    log.error("product write-behind insert failed :: productId={}, cause={}", pending.product().getId(), rowFailure.getMessage());
+                }
+            }
+        }
+        if (committed.isEmpty()) {
+            return;
+        }
+        invalidateQueryCache();
+        flushedRows.increment(committed.size());
+        for (Pending pending : committed) {
+            eventPublisher.publishEvent(ProductChangedEvent.created(pending.product()));
+        }
+    }
+
+    private void insert(List<Pending> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, pending) -> {
+            ps.setLong(1, pending.product().getId());
+            if (pending.categoryId() == null) {
+                ps.setNull(2, Types.INTEGER);
+            } else {
+                ps.setInt(2, pending.categoryId());
+            }
+            ps.setString(3, pending.product().getName());
+        });
+    }
+
+    private void invalidateQueryCache() {
+        if (!sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled()) {
+            return;
+        }
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            sessionFactory.getCache().getTimestampsCache()
+                    .invalidate(QUERY_SPACES, (SharedSessionContractImplementor) session);
+        }
+    }
+
+    /**
+     * 등록 대기 상품. Product는 category_id를 노출하지 않으므로 INSERT에 사용할 카테고리 ID를 함께 보관합니다.
+     */
+    private record Pending(Product product, Integer categoryId) {
+    }
+}
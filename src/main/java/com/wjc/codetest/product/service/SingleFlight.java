@@ -0,0 +1,67 @@
+package com.wjc.codetest.product.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회를 하나로 합칩니다. (single-flight)
+ * 키별로 먼저 도착한 호출(leader)만 loader를 실행하고, 실행 중에 도착한 호출은 leader의 결과(또는 예외)를 기다려 그대로 돌려받습니다.
+ * 결과를 보관하지 않는 진행 중 조회의 중복 제거이므로, leader가 끝난 뒤 도착한 호출은 다시 loader를 실행합니다. (캐시는 호출자가 담당)
+ *
+ * 결과는 여러 스레드가 공유하므로 불변 객체만 사용해야 합니다. (영속성 컨텍스트에 속한 Entity 불가)
+ * 호출 수는 product.single_flight.calls{name, result=leader|coalesced}로 노출됩니다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter coalesced;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.leaders = meterRegistry.counter("product.single_flight.calls", "name", name, "result", "leader");
+        this.coalesced = meterRegistry.counter("product.single_flight.calls", "name", name, "result", "coalesced");
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+        leaders.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * leader의 예외는 CompletionException을 벗겨 원래 예외로 다시 던집니다. (예외 처리/응답 코드가 leader와 동일하도록)
+     */
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
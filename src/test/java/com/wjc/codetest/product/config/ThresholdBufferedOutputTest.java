@@ -0,0 +1,137 @@
+package com.wjc.codetest.product.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * threshold 이하의 본문은 Content-Length와 함께 한 번에 쓰고, 넘는 본문은 버퍼를 비운 뒤 길이 없이 이어서 쓰는지 확인합니다.
+ */
+class ThresholdBufferedOutputTest {
+
+    private static final int THRESHOLD = 8;
+
+    private final RecordingMessage message = new RecordingMessage();
+
+    @Test
+    void bodyWithinThresholdIsWrittenOnceWithContentLength() throws IOException {
+        ThresholdBufferedOutput.write(message, THRESHOLD, out -> {
+            out.getBody().write(bytes("1234"));
+            out.getBody().flush();
+            out.getBody().write(bytes("5678"));
+            out.getBody().flush();
+        });
+
+        assertThat(message.written()).isEqualTo("12345678");
+        assertThat(message.headers.getContentLength()).isEqualTo(8);
+        // 길이를 지정한 뒤에 본문을 가져오고, 버퍼링 중의 flush는 응답을 커밋하지 않습니다.
+        assertThat(message.contentLengthWhenBodyRequested).isEqualTo(8);
+        assertThat(message.flushes).isZero();
+    }
+
+    @Test
+    void emptyBodyHasZeroContentLength() throws IOException {
+        ThresholdBufferedOutput.write(message, THRESHOLD, out -> {
+        });
+
+        assertThat(message.written()).isEmpty();
+        assertThat(message.headers.getContentLength()).isZero();
+    }
+
+    @Test
+    void bodyOverThresholdSpillsBufferAndStreamsWithoutContentLength() throws IOException {
+        ThresholdBufferedOutput.write(message, THRESHOLD, out -> {
+            out.getBody().write(bytes("12345"));
+            assertThat(message.bodyRequests).isZero();
+            out.getBody().write(bytes("6789"));
+            out.getBody().write(bytes("abc"));
+            out.getBody().flush();
+        });
+
+        assertThat(message.written()).isEqualTo("123456789abc");
+        assertThat(message.headers.getContentLength()).isEqualTo(-1);
+        assertThat(message.contentLengthWhenBodyRequested).isEqualTo(-1);
+        assertThat(message.bodyRequests).isEqualTo(1);
+        assertThat(message.flushes).isEqualTo(1);
+    }
+
+    @Test
+    void singleByteWritesSpillAtTheFirstByteOverThreshold() throws IOException {
+        ThresholdBufferedOutput.write(message, THRESHOLD, out -> {
+            for (byte b : bytes("12345678")) {
+                out.getBody().write(b);
+            }
+            assertThat(message.bodyRequests).isZero();
+            out.getBody().write('9');
+            assertThat(message.written()).isEqualTo("123456789");
+        });
+
+        assertThat(message.written()).isEqualTo("123456789");
+        assertThat(message.headers.getContentLength()).isEqualTo(-1);
+    }
+
+    @Test
+    void disabledThresholdWritesToTheOriginalMessage() throws IOException {
+        ThresholdBufferedOutput.write(message, 0, out -> {
+            assertThat(out).isSameAs(message);
+            out.getBody().write(bytes("123"));
+        });
+
+        assertThat(message.written()).isEqualTo("123");
+        assertThat(message.headers.getContentLength()).isEqualTo(-1);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 실제 응답처럼 본문을 가져온 시점의 헤더와 flush 횟수를 기록합니다.
+     */
+    private static final class RecordingMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private int bodyRequests;
+        private int flushes;
+        private long contentLengthWhenBodyRequested;
+
+        @Override
+        public OutputStream getBody() {
+            bodyRequests++;
+            contentLengthWhenBodyRequested = headers.getContentLength();
+            return new OutputStream() {
+                @Override
+                public void write(int b) {
+                    body.write(b);
+                }
+
+                @Override
+                public void write(byte[] bytes, int offset, int length) {
+                    body.write(bytes, offset, length);
+                }
+
+                @Override
+                public void flush() {
+                    flushes++;
+                }
+            };
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        private String written() {
+            return body.toString(StandardCharsets.US_ASCII);
+        }
+    }
+}
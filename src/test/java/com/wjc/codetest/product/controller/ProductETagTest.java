@@ -0,0 +1,93 @@
+package com.wjc.codetest.product.controller;
+
+import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.model.request.CreateProductRequest;
+import com.wjc.codetest.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 상품/카테고리 목록 ETag가 응답 표현(JSON/CBOR/Smile)별로 구분되고, 실제 응답 Content-Type과 같은 표현을 가리키는지 확인합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProductETagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductService productService;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        product = productService.create(new CreateProductRequest("etag-" + UUID.randomUUID(), "name"));
+    }
+
+    @Test
+    void eTagFollowsNegotiatedRepresentation() throws Exception {
+        assertRepresentation(null, "application/json", "json");
+        assertRepresentation("*/*", "application/json", "json");
+        assertRepresentation("application/json", "application/json", "json");
+        assertRepresentation("application/cbor", "application/cbor", "cbor");
+        assertRepresentation("application/x-jackson-smile", "application/x-jackson-smile", "x-jackson-smile");
+        assertRepresentation("application/cbor;q=0.5, application/json", "application/json", "json");
+        assertRepresentation("application/cbor, application/json", "application/cbor", "cbor");
+    }
+
+    @Test
+    void notModifiedOnlyForSameRepresentation() throws Exception {
+        String jsonETag = getProduct("application/json").getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/get/product/by/{id}", product.getId())
+                        .accept("application/json").header(HttpHeaders.IF_NONE_MATCH, jsonETag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, jsonETag));
+        mockMvc.perform(get("/get/product/by/{id}", product.getId())
+                        .accept("application/cbor").header(HttpHeaders.IF_NONE_MATCH, jsonETag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + product.getId() + "-0-cbor\""));
+    }
+
+    @Test
+    void categoryListETagIsPerRepresentation() throws Exception {
+        String json = mockMvc.perform(get("/product/category/list").accept("application/json"))
+                .andExpect(status().isOk()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String smile = mockMvc.perform(get("/product/category/list").accept("application/x-jackson-smile"))
+                .andExpect(status().isOk()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(json).endsWith("-json\"");
+        assertThat(smile).endsWith("-x-jackson-smile\"");
+    }
+
+    private void assertRepresentation(String accept, String contentType, String suffix) throws Exception {
+        MvcResult result = getProduct(accept);
+        assertThat(result.getResponse().getContentType()).startsWith(contentType);
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG))
+                .isEqualTo("\"" + product.getId() + "-0-" + suffix + "\"");
+        assertThat(result.getResponse().getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+    }
+
+    private MvcResult getProduct(String accept) throws Exception {
+        var request = get("/get/product/by/{id}", product.getId());
+        if (accept != null) {
+            request.accept(accept);
+        }
+        return mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+    }
+}
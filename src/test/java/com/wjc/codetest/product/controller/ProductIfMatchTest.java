@@ -0,0 +1,165 @@
+package com.wjc.codetest.product.controller;
+
+import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.model.request.CreateProductRequest;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import com.wjc.codetest.product.repository.ProductRepository;
+import com.wjc.codetest.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * If-Match 조건부 수정: 조회한 ETag의 버전이 현재 버전과 다르면 412로 거절하고 상품을 변경하지 않는지 확인합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProductIfMatchTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private String category;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        category = "if-match-" + UUID.randomUUID();
+        product = productService.create(new CreateProductRequest(category, "original"));
+    }
+
+    @Test
+    void matchingETagUpdatesAndReturnsNextETag() throws Exception {
+        String etag = currentETag();
+
+        update(etag, "renamed")
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + product.getId() + "-1-json\""));
+
+        assertThat(current()).isEqualTo(new ProductResponse(product.getId(), category, "renamed", 1L));
+    }
+
+    @Test
+    void staleETagIsRejectedWith412() throws Exception {
+        String stale = currentETag();
+        update(stale, "first").andExpect(status().isOk());
+
+        update(stale, "second").andExpect(status().isPreconditionFailed());
+
+        assertThat(current().name()).isEqualTo("first");
+        assertThat(current().version()).isEqualTo(1L);
+    }
+
+    @Test
+    void eTagOfAnotherProductOrMalformedIsRejectedWith412() throws Exception {
+        Product other = productService.create(new CreateProductRequest(category, "other"));
+
+        update("\"" + other.getId() + "-0-json\"", "wrong product").andExpect(status().isPreconditionFailed());
+        update("\"" + product.getId() + "-x-json\"", "malformed").andExpect(status().isPreconditionFailed());
+        update("W/\"" + product.getId() + "-0-json\"", "weak").andExpect(status().isPreconditionFailed());
+
+        assertThat(current().name()).isEqualTo("original");
+    }
+
+    @Test
+    void eTagFromAnotherRepresentationMatchesSameVersion() throws Exception {
+        update("\"" + product.getId() + "-0-cbor\"", "from cbor").andExpect(status().isOk());
+
+        assertThat(current().name()).isEqualTo("from cbor");
+    }
+
+    @Test
+    void wildcardUpdatesUnconditionally() throws Exception {
+        update("*", "any").andExpect(status().isOk());
+
+        assertThat(current().name()).isEqualTo("any");
+    }
+
+    @Test
+    void wildcardOnMissingProductIsRejectedWith412() throws Exception {
+        long missing = product.getId() + 1_000_000L;
+
+        mockMvc.perform(post("/update/product")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, "*")
+                        .content("{\"id\":" + missing + ",\"category\":\"" + category + "\",\"name\":\"ghost\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(productRepository.findById(missing)).isEmpty();
+    }
+
+    @Test
+    void concurrentUpdatesWithSameETagAllowOnlyOne() throws Exception {
+        String etag = currentETag();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Integer> statuses = new ArrayList<>();
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                String name = "writer-" + i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return update(etag, name).andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> future : futures) {
+                statuses.add(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(statuses).filteredOn(status -> status == 200).hasSize(1);
+        assertThat(statuses).filteredOn(status -> status == 412).hasSize(THREADS - 1);
+        assertThat(current().version()).isEqualTo(1L);
+    }
+
+    private String currentETag() throws Exception {
+        MvcResult result = mockMvc.perform(get("/get/product/by/{id}", product.getId()).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk()).andReturn();
+        return result.getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private ResultActions update(String ifMatch, String name) throws Exception {
+        return mockMvc.perform(post("/update/product")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, ifMatch)
+                .content("{\"id\":" + product.getId() + ",\"category\":\"" + category + "\",\"name\":\"" + name + "\"}"));
+    }
+
+    private ProductResponse current() {
+        return productRepository.findResponseById(product.getId()).orElseThrow();
+    }
+}
@@ -0,0 +1,85 @@
+package com.wjc.codetest.product.controller;
+
+import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.model.request.CreateProductRequest;
+import com.wjc.codetest.product.repository.ProductRepository;
+import com.wjc.codetest.product.service.CategoryDictionary;
+import com.wjc.codetest.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 전제 조건 없는 수정(If-Match 없음 또는 *)이 조회 이후 커밋된 다른 수정과 충돌하면 412가 아닌 409로 응답하는지 확인합니다.
+ * 조회와 save() 사이에 실행되는 카테고리 resolve에서 다른 트랜잭션의 수정(버전 증가)을 커밋하여 충돌을 재현합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProductUpdateConflictTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private CategoryDictionary categoryDictionary;
+
+    private String category;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        category = "conflict-" + UUID.randomUUID();
+        product = productService.create(new CreateProductRequest(category, "original"));
+        doAnswer(invocation -> {
+            jdbcTemplate.update("UPDATE product SET name = 'concurrent', version = version + 1 WHERE product_id = ?", product.getId());
+            return invocation.callRealMethod();
+        }).when(categoryDictionary).resolve(category);
+    }
+
+    @Test
+    void unconditionalUpdateConflictIs409() throws Exception {
+        mockMvc.perform(update()).andExpect(status().isConflict());
+
+        assertThat(productRepository.findResponseById(product.getId())).get()
+                .satisfies(current -> assertThat(current.name()).isEqualTo("concurrent"));
+    }
+
+    @Test
+    void wildcardUpdateConflictIs409() throws Exception {
+        mockMvc.perform(update().header(HttpHeaders.IF_MATCH, "*")).andExpect(status().isConflict());
+
+        assertThat(productRepository.findResponseById(product.getId())).get()
+                .satisfies(current -> assertThat(current.name()).isEqualTo("concurrent"));
+    }
+
+    private MockHttpServletRequestBuilder update() {
+        return post("/update/product")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content("{\"id\":" + product.getId() + ",\"category\":\"" + category + "\",\"name\":\"mine\"}");
+    }
+}
@@ -0,0 +1,63 @@
+package com.wjc.codetest.product.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wjc.codetest.product.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * write-behind 등록은 커밋 전에 응답하므로 200 대신 202 Accepted로 응답하고, 예약된 ID의 상품이 배치 커밋 후 저장되는지 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "product.write-behind.enabled=true",
+        "product.write-behind.flush-interval=20ms"
+})
+@AutoConfigureMockMvc
+class ProductWriteBehindTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void createIsAcceptedAndCommittedByTheBuffer() throws Exception {
+        String category = "write-behind-" + UUID.randomUUID();
+
+        String body = mockMvc.perform(post("/create/product")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"category\":\"" + category + "\",\"name\":\"buffered\"}"))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode product = objectMapper.readTree(body);
+        long id = product.get("id").asLong();
+        assertThat(product.get("category").asText()).isEqualTo(category);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (productRepository.findById(id).isEmpty()) {
+            assertThat(System.nanoTime()).as("product %d not committed within 5s", id).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+        assertThat(productRepository.findById(id)).get()
+                .satisfies(saved -> {
+                    assertThat(saved.getName()).isEqualTo("buffered");
+                    assertThat(saved.getVersion()).isZero();
+                });
+    }
+}
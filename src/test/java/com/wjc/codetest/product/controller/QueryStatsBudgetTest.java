@@ -0,0 +1,84 @@
+package com.wjc.codetest.product.controller;
+
+import com.wjc.codetest.product.config.QueryStatsProperties;
+import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.model.request.CreateProductRequest;
+import com.wjc.codetest.product.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 SQL 실행 예산이 실제 실행 횟수(Server-Timing)와 맞는지 확인합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class QueryStatsBudgetTest {
+
+    private static final Pattern STATEMENTS = Pattern.compile("(\\d+) statements");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private QueryStatsProperties properties;
+
+    /**
+     * 상품 조회(카테고리 포함) + UPDATE, 처음 등장한 카테고리면 카테고리 INSERT가 추가됩니다.
+     */
+    @Test
+    void updateProductMatchesBudget() throws Exception {
+        String category = "budget-" + UUID.randomUUID();
+        Product product = productService.create(new CreateProductRequest(category, "name"));
+        int budget = properties.budgetFor("ProductController.updateProduct");
+
+        assertThat(update(product.getId(), category, "renamed")).isEqualTo(2);
+        assertThat(update(product.getId(), "budget-" + UUID.randomUUID(), "moved")).isEqualTo(3).isEqualTo(budget);
+    }
+
+    /**
+     * 이름만 변경하는 부분 수정은 (인덱스가 꺼져 있으면) 수정 후 상태를 다시 조회하지 않고 UPDATE 1회로 끝납니다.
+     */
+    @Test
+    void nameOnlyPatchRunsSingleStatement() throws Exception {
+        Product product = productService.create(new CreateProductRequest("budget-" + UUID.randomUUID(), "name"));
+
+        String serverTiming = mockMvc.perform(patch("/product/" + product.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"renamed\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("Server-Timing");
+
+        assertThat(statements(serverTiming)).isEqualTo(1);
+    }
+
+    private int update(Long productId, String category, String name) throws Exception {
+        String serverTiming = mockMvc.perform(post("/update/product")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\":" + productId + ",\"category\":\"" + category + "\",\"name\":\"" + name + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("Server-Timing");
+        return statements(serverTiming);
+    }
+
+    private static int statements(String serverTiming) {
+        Matcher matcher = STATEMENTS.matcher(serverTiming);
+        assertThat(matcher.find()).isTrue();
+        return Integer.parseInt(matcher.group(1));
+    }
+}
@@ -0,0 +1,74 @@
+package com.wjc.codetest.product.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongLongMapTest {
+
+    private static final long MISSING = -1L;
+
+    @Test
+    void putGetRemove() {
+        LongLongMap map = new LongLongMap(4, MISSING);
+
+        assertThat(map.put(1L, 10L)).isEqualTo(MISSING);
+        assertThat(map.put(1L, 0L)).isEqualTo(10L);
+        assertThat(map.get(1L)).isZero();
+        assertThat(map.get(2L)).isEqualTo(MISSING);
+        assertThat(map.remove(1L)).isZero();
+        assertThat(map.remove(1L)).isEqualTo(MISSING);
+        assertThat(map.size()).isZero();
+    }
+
+    /**
+     * 같은 탐사 구간을 공유하도록 좁은 키 범위에서 삽입/삭제를 반복하여, 삭제 후 당겨 채운 항목과 재해시 후 항목을 모두 찾을 수 있는지 확인합니다.
+     */
+    @Test
+    void backwardShiftKeepsProbeChainsIntact() {
+        LongLongMap map = new LongLongMap(8, MISSING);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            long key = 1 + random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.getOrDefault(key, MISSING));
+                expected.remove(key);
+            } else {
+                assertThat(map.put(key, i)).isEqualTo(expected.getOrDefault(key, MISSING));
+                expected.put(key, (long) i);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 1; key <= 2_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.getOrDefault(key, MISSING));
+        }
+    }
+
+    @Test
+    void clearRemovesEverything() {
+        LongLongMap map = new LongLongMap(4, MISSING);
+        map.put(1L, 1L);
+        map.put(Long.MIN_VALUE, 2L);
+
+        map.clear();
+
+        assertThat(map.size()).isZero();
+        assertThat(map.get(1L)).isEqualTo(MISSING);
+        assertThat(map.get(Long.MIN_VALUE)).isEqualTo(MISSING);
+    }
+
+    @Test
+    void rejectsReservedKey() {
+        LongLongMap map = new LongLongMap(4, MISSING);
+
+        assertThatThrownBy(() -> map.put(0L, 1L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> map.get(0L)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
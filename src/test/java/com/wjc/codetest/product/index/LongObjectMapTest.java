@@ -0,0 +1,94 @@
+package com.wjc.codetest.product.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongObjectMapTest {
+
+    @Test
+    void putGetRemove() {
+        LongObjectMap<String> map = new LongObjectMap<>(4);
+
+        assertThat(map.put(1L, "a")).isNull();
+        assertThat(map.put(1L, "b")).isEqualTo("a");
+        assertThat(map.get(1L)).isEqualTo("b");
+        assertThat(map.get(2L)).isNull();
+        assertThat(map.remove(1L)).isEqualTo("b");
+        assertThat(map.remove(1L)).isNull();
+        assertThat(map.size()).isZero();
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        LongObjectMap<Long> map = new LongObjectMap<>(2);
+        for (long key = 1; key <= 10_000; key++) {
+            map.put(key, key * 10);
+        }
+
+        assertThat(map.size()).isEqualTo(10_000);
+        for (long key = 1; key <= 10_000; key++) {
+            assertThat(map.get(key)).isEqualTo(key * 10);
+        }
+    }
+
+    /**
+     * 같은 탐사 구간을 공유하도록 좁은 키 범위에서 삽입/삭제를 반복하여, 삭제 후 당겨 채운 항목과 재해시 후 항목을 모두 찾을 수 있는지 확인합니다.
+     */
+    @Test
+    void backwardShiftKeepsProbeChainsIntact() {
+        LongObjectMap<Long> map = new LongObjectMap<>(8);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            long key = 1 + random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                assertThat(map.put(key, (long) i)).isEqualTo(expected.put(key, (long) i));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 1; key <= 2_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+        }
+    }
+
+    @Test
+    void negativeAndLargeKeys() {
+        LongObjectMap<String> map = new LongObjectMap<>(4);
+        map.put(-1L, "negative");
+        map.put(Long.MAX_VALUE, "max");
+        map.put(Long.MIN_VALUE, "min");
+
+        assertThat(map.get(-1L)).isEqualTo("negative");
+        assertThat(map.get(Long.MAX_VALUE)).isEqualTo("max");
+        assertThat(map.get(Long.MIN_VALUE)).isEqualTo("min");
+    }
+
+    @Test
+    void clearRemovesEverything() {
+        LongObjectMap<String> map = new LongObjectMap<>(4);
+        map.put(1L, "a");
+        map.put(2L, "b");
+
+        map.clear();
+
+        assertThat(map.size()).isZero();
+        assertThat(map.get(1L)).isNull();
+    }
+
+    @Test
+    void rejectsReservedKey() {
+        LongObjectMap<String> map = new LongObjectMap<>(4);
+
+        assertThatThrownBy(() -> map.put(0L, "zero")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> map.get(0L)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
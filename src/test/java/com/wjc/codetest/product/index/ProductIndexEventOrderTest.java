@@ -0,0 +1,126 @@
+package com.wjc.codetest.product.index;
+
+import com.wjc.codetest.product.config.ProductIndexProperties;
+import com.wjc.codetest.product.config.ProductSearchProperties;
+import com.wjc.codetest.product.model.event.ProductChangedEvent;
+import com.wjc.codetest.product.model.event.ProductChangedEvent.Type;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import com.wjc.codetest.product.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 커밋 이후 이벤트가 트랜잭션 순서와 다르게 도착해도 인덱스가 DB의 최신 버전과 같은 상태가 되는지 확인합니다.
+ */
+class ProductIndexEventOrderTest {
+
+    private static final int PRODUCTS = 300;
+    private static final int THREADS = 8;
+
+    private final ProductIndex productIndex = new ProductIndex(new ProductIndexProperties(true),
+            mock(ProductRepository.class), mock(PlatformTransactionManager.class));
+    private final ProductNameIndex nameIndex = new ProductNameIndex(new ProductSearchProperties(true, 100),
+            mock(ProductRepository.class), mock(PlatformTransactionManager.class));
+
+    @Test
+    void olderUpdateArrivingLateIsIgnored() {
+        apply(event(Type.PATCHED, 1L, "books", "patched", 2L));
+        apply(event(Type.UPDATED, 1L, "music", "updated", 1L));
+        apply(event(Type.CREATED, 1L, "music", "created", 0L));
+
+        assertThat(productIndex.find(1L)).contains(new ProductResponse(1L, "books", "patched", 2L));
+        assertThat(productIndex.count("music")).isZero();
+        assertThat(nameIndex.searchPrefix("patched", 10)).extracting(ProductResponse::version).containsExactly(2L);
+        assertThat(nameIndex.searchPrefix("updated", 10)).isEmpty();
+    }
+
+    @Test
+    void deletedProductIsNotRevivedByLateUpdate() {
+        apply(event(Type.CREATED, 2L, "books", "created", 0L));
+        apply(event(Type.DELETED, 2L, null, null, 1L));
+        apply(event(Type.UPDATED, 2L, "books", "updated", 1L));
+
+        assertThat(productIndex.find(2L)).isEmpty();
+        assertThat(productIndex.count("books")).isZero();
+        assertThat(nameIndex.searchPrefix("updated", 10)).isEmpty();
+    }
+
+    @Test
+    void concurrentOutOfOrderDeliveryConvergesToLatestVersion() throws Exception {
+        List<ProductChangedEvent> events = new ArrayList<>();
+        for (long id = 1; id <= PRODUCTS; id++) {
+            events.add(event(Type.CREATED, id, category(id), name(id, 0), 0L));
+            events.add(event(Type.UPDATED, id, category(id + 1), name(id, 1), 1L));
+            events.add(event(Type.PATCHED, id, category(id + 1), name(id, 2), 2L));
+            if (id % 4 == 0) {
+                events.add(event(Type.DELETED, id, null, null, 2L));
+            }
+        }
+        Collections.shuffle(events, new Random(11));
+        ConcurrentLinkedQueue<ProductChangedEvent> queue = new ConcurrentLinkedQueue<>(events);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (ProductChangedEvent event; (event = queue.poll()) != null; ) {
+                    apply(event);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        long live = 0;
+        for (long id = 1; id <= PRODUCTS; id++) {
+            String prefix = "product-" + id + "-";
+            if (id % 4 == 0) {
+                assertThat(productIndex.find(id)).isEmpty();
+                assertThat(nameIndex.searchPrefix(prefix, 10)).isEmpty();
+            } else {
+                live++;
+                ProductResponse expected = new ProductResponse(id, category(id + 1), name(id, 2), 2L);
+                assertThat(productIndex.find(id)).contains(expected);
+                assertThat(nameIndex.searchPrefix(prefix, 10)).containsExactly(expected);
+            }
+        }
+        long indexed = 0;
+        for (int category = 0; category < 5; category++) {
+            indexed += productIndex.count("category-" + category);
+        }
+        assertThat(indexed).isEqualTo(live);
+    }
+
+    private void apply(ProductChangedEvent event) {
+        productIndex.onProductChanged(event);
+        nameIndex.onProductChanged(event);
+    }
+
+    private static ProductChangedEvent event(Type type, Long id, String category, String name, Long version) {
+        return new ProductChangedEvent(type, id, null, null, category, name, version);
+    }
+
+    private static String category(long id) {
+        return "category-" + id % 5;
+    }
+
+    private static String name(long id, int version) {
+        return "product-" + id + "-" + version;
+    }
+}
@@ -0,0 +1,65 @@
+package com.wjc.codetest.product.index;
+
+import com.wjc.codetest.product.config.ProductSearchProperties;
+import com.wjc.codetest.product.model.event.ProductChangedEvent;
+import com.wjc.codetest.product.model.event.ProductChangedEvent.Type;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import com.wjc.codetest.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ProductNameIndexTest {
+
+    private final ProductNameIndex index = new ProductNameIndex(new ProductSearchProperties(true, 100),
+            mock(ProductRepository.class), mock(PlatformTransactionManager.class));
+
+    @BeforeEach
+    void setUp() {
+        create(5L, "Apple Pie");
+        create(3L, "apple juice");
+        create(9L, "Apple Pie");
+        create(4L, "pineapple");
+        create(7L, "Banana");
+    }
+
+    @Test
+    void prefixSearchIsOrderedByNameThenId() {
+        assertThat(index.searchPrefix("APPLE", 10)).extracting(ProductResponse::id).containsExactly(3L, 5L, 9L);
+        assertThat(index.searchPrefix("apple p", 2)).extracting(ProductResponse::id).containsExactly(5L, 9L);
+        assertThat(index.searchPrefix("cherry", 10)).isEmpty();
+    }
+
+    @Test
+    void containsSearchUsesTrigramsAndIsOrderedById() {
+        assertThat(index.searchContains("apple", 10)).extracting(ProductResponse::id).containsExactly(3L, 4L, 5L, 9L);
+        assertThat(index.searchContains("PLE P", 10)).extracting(ProductResponse::id).containsExactly(5L, 9L);
+        assertThat(index.searchContains("apple", 2)).extracting(ProductResponse::id).containsExactly(3L, 4L);
+        // 3-gram("app", "ppl", "ple")은 모두 있지만 이어진 문자열은 없는 경우
+        assertThat(index.searchContains("applepie", 10)).isEmpty();
+    }
+
+    @Test
+    void shortContainsQueryScansNamesInsteadOfPrefixSearch() {
+        // 접두어 검색이라면 "na"로 시작하는 상품이 없어 빈 결과가 됩니다.
+        assertThat(index.searchContains("na", 10)).extracting(ProductResponse::id).containsExactly(7L);
+        assertThat(index.searchContains("E", 10)).extracting(ProductResponse::id).containsExactly(3L, 4L, 5L, 9L);
+        assertThat(index.searchContains("e", 2)).extracting(ProductResponse::id).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void renamedProductIsReindexed() {
+        index.onProductChanged(new ProductChangedEvent(Type.PATCHED, 4L, null, null, "fruit", "Cherry", 1L));
+
+        assertThat(index.searchContains("apple", 10)).extracting(ProductResponse::id).containsExactly(3L, 5L, 9L);
+        assertThat(index.searchContains("err", 10)).extracting(ProductResponse::id).containsExactly(4L);
+        assertThat(index.searchPrefix("cher", 10)).containsExactly(new ProductResponse(4L, "fruit", "Cherry", 1L));
+    }
+
+    private void create(long productId, String name) {
+        index.onProductChanged(new ProductChangedEvent(Type.CREATED, productId, null, null, "fruit", name, 0L));
+    }
+}
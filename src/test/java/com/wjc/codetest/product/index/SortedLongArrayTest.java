@@ -0,0 +1,83 @@
+package com.wjc.codetest.product.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SortedLongArrayTest {
+
+    @Test
+    void keepsValuesSortedWithoutDuplicates() {
+        SortedLongArray array = new SortedLongArray(1);
+
+        assertThat(array.add(5)).isTrue();
+        assertThat(array.add(1)).isTrue();
+        assertThat(array.add(3)).isTrue();
+        assertThat(array.add(3)).isFalse();
+
+        assertThat(array.size()).isEqualTo(3);
+        assertThat(new long[]{array.get(0), array.get(1), array.get(2)}).containsExactly(1, 3, 5);
+    }
+
+    @Test
+    void removeAndContains() {
+        SortedLongArray array = new SortedLongArray();
+        array.add(1);
+        array.add(2);
+        array.add(3);
+
+        assertThat(array.remove(2)).isTrue();
+        assertThat(array.remove(2)).isFalse();
+        assertThat(array.contains(2)).isFalse();
+        assertThat(array.contains(3)).isTrue();
+        assertThat(array.get(1)).isEqualTo(3);
+    }
+
+    @Test
+    void indexAfter() {
+        SortedLongArray array = new SortedLongArray();
+        array.add(10);
+        array.add(20);
+        array.add(30);
+
+        assertThat(array.indexAfter(0)).isZero();
+        assertThat(array.indexAfter(10)).isEqualTo(1);
+        assertThat(array.indexAfter(15)).isEqualTo(1);
+        assertThat(array.indexAfter(30)).isEqualTo(3);
+    }
+
+    @Test
+    void matchesTreeSetUnderRandomOperations() {
+        SortedLongArray array = new SortedLongArray(2);
+        TreeSet<Long> expected = new TreeSet<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 50_000; i++) {
+            long value = random.nextInt(1_000);
+            if (random.nextBoolean()) {
+                assertThat(array.add(value)).isEqualTo(expected.add(value));
+            } else {
+                assertThat(array.remove(value)).isEqualTo(expected.remove(value));
+            }
+        }
+
+        array.trimToSize();
+        assertThat(array.size()).isEqualTo(expected.size());
+        int index = 0;
+        for (long value : expected) {
+            assertThat(array.get(index++)).isEqualTo(value);
+        }
+    }
+
+    @Test
+    void rejectsOutOfRangeIndex() {
+        SortedLongArray array = new SortedLongArray();
+        array.add(1);
+
+        assertThatThrownBy(() -> array.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(array.isEmpty()).isFalse();
+    }
+}
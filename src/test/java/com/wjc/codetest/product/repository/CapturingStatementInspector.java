@@ -0,0 +1,31 @@
+package com.wjc.codetest.product.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate가 실행하는 SQL을 그대로 기록합니다. (hibernate.session_factory.statement_inspector)
+ * 실행 계획 테스트에서 손으로 옮겨 적은 SQL 대신 JPQL이 실제로 생성한 SQL을 EXPLAIN 하기 위해 사용합니다.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        synchronized (STATEMENTS) {
+            STATEMENTS.add(sql);
+        }
+        return sql;
+    }
+
+    public static List<String> drain() {
+        synchronized (STATEMENTS) {
+            List<String> drained = List.copyOf(STATEMENTS);
+            STATEMENTS.clear();
+            return drained;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.wjc.codetest.product.repository;
+
+import com.wjc.codetest.product.model.request.ProductListSort;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 100만 건 적재 후 EXPLAIN으로 카테고리 조회 쿼리가 인덱스를 사용하는지 확인합니다.
+ * ProductRepository 메서드를 실제로 호출하여 Hibernate가 생성한 SQL을 StatementInspector로 수집하고, 같은 바인드 값으로 EXPLAIN 합니다.
+ * H2 실행 계획의 주석: "PUBLIC.인덱스명: 조건" 은 인덱스 탐색, "index sorted" 는 정렬 단계 생략, "group sorted" 는 인덱스 순서 집계를 의미합니다.
+ * 100만 건을 테스트 JVM 힙에 두지 않도록 build 디렉터리의 파일 DB를 사용하며, 이전 실행의 스키마가 남지 않도록 기동 시 테이블을 새로 생성합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./build/h2/explain;MODE=MySQL",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.wjc.codetest.product.repository.CapturingStatementInspector"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductIndexPlanTest {
+
+    private static final int CATALOG_SIZE = 1_000_000;
+    private static final int SEED_CHUNK_SIZE = 100_000;
+    private static final int CATEGORY_COUNT = 100;
+
+    private static final int CATEGORY_ID = 7;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeAll
+    void seed() {
+        clear();
+        jdbcTemplate.update("INSERT INTO category (category_id, name)"
+                + " SELECT X, CONCAT('category-', X) FROM SYSTEM_RANGE(1, ?)", CATEGORY_COUNT);
+        // 한 문장(트랜잭션)으로 적재하면 미커밋 변경분이 모두 메모리에 남으므로 나누어 커밋합니다.
+        for (int from = 1; from <= CATALOG_SIZE; from += SEED_CHUNK_SIZE) {
+            jdbcTemplate.update("INSERT INTO product (product_id, category_id, name, version)"
+                            + " SELECT X, MOD(X, ?) + 1, CONCAT('product-', X), 0 FROM SYSTEM_RANGE(?, ?)",
+                    CATEGORY_COUNT, from, from + SEED_CHUNK_SIZE - 1);
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    void clear() {
+        jdbcTemplate.execute("TRUNCATE TABLE product");
+        jdbcTemplate.execute("DELETE FROM category");
+    }
+
+    @Test
+    void listByCategorySortedById() {
+        String sql = generatedSql(() -> productRepository.findResponseSliceByCategory(CATEGORY_ID,
+                PageRequest.of(10, 20, ProductListSort.ID.toSort())));
+        String plan = explain(sql, CATEGORY_ID, 200, 21);
+        assertThat(plan).containsIgnoringCase("IDX_PRODUCT_CATEGORY_ID: CATEGORY_ID =").contains("index sorted");
+    }
+
+    @Test
+    void listByCategorySortedByName() {
+        String sql = generatedSql(() -> productRepository.findResponseSliceByCategory(CATEGORY_ID,
+                PageRequest.of(10, 20, ProductListSort.NAME.toSort())));
+        String plan = explain(sql, CATEGORY_ID, 200, 21);
+        assertThat(plan).containsIgnoringCase("IDX_PRODUCT_CATEGORY_NAME: CATEGORY_ID =").contains("index sorted");
+    }
+
+    @Test
+    void pageAndCountByCategory() {
+        List<String> statements = generatedStatements(() -> productRepository.findResponsesByCategory(CATEGORY_ID,
+                PageRequest.of(10, 20, ProductListSort.ID.toSort())));
+        assertThat(statements).hasSize(2);
+
+        assertThat(explain(statements.get(0), CATEGORY_ID, 200, 20))
+                .containsIgnoringCase("IDX_PRODUCT_CATEGORY_ID: CATEGORY_ID =").contains("index sorted");
+        assertThat(explain(statements.get(1), CATEGORY_ID))
+                .containsIgnoringCase("IDX_PRODUCT_CATEGORY_");
+    }
+
+    @Test
+    void cursorByCategory() {
+        String sql = generatedSql(() -> productRepository.findResponsesByCategoryAfter(CATEGORY_ID, 500_000L, Limit.of(21)));
+        String plan = explain(sql, CATEGORY_ID, 500_000L, 21);
+        assertThat(plan).containsIgnoringCase("IDX_PRODUCT_CATEGORY_ID: CATEGORY_ID =").contains("index sorted");
+    }
+
+    @Test
+    void countGroupByCategory() {
+        String sql = generatedSql(productRepository::countGroupByCategory);
+        String plan = explain(sql);
+        assertThat(plan).containsIgnoringCase("IDX_PRODUCT_CATEGORY_").contains("group sorted");
+    }
+
+    private static String generatedSql(Runnable query) {
+        List<String> statements = generatedStatements(query);
+        assertThat(statements).hasSize(1);
+        return statements.get(0);
+    }
+
+    private static List<String> generatedStatements(Runnable query) {
+        CapturingStatementInspector.drain();
+        query.run();
+        return CapturingStatementInspector.drain();
+    }
+
+    private String explain(String sql, Object... args) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, args);
+    }
+}
@@ -0,0 +1,99 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.model.domain.Category;
+import com.wjc.codetest.product.repository.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 처음 등장한 카테고리를 여러 요청이 동시에 등록해도 행 1건, 인스턴스 1개로 수렴하는지 확인합니다.
+ * 새 카테고리 등록은 트랜잭션 밖에서만 허용되는지 확인합니다.
+ */
+@SpringBootTest
+class CategoryDictionaryTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private CategoryDictionary categoryDictionary;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentResolveOfNewCategoryInsertsOnce() throws Exception {
+        String name = "dictionary-" + UUID.randomUUID();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Category>> results = new ArrayList<>(THREADS);
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return categoryDictionary.resolve(name);
+                }));
+            }
+            start.countDown();
+
+            Category first = results.get(0).get();
+            for (Future<Category> result : results) {
+                assertThat(result.get().getId()).isEqualTo(first.getId());
+            }
+            assertThat(categoryRepository.findByName(name)).get().extracting(Category::getId).isEqualTo(first.getId());
+            assertThat(categoryDictionary.idOf(name)).contains(first.getId());
+            assertThat(categoryDictionary.nameOf(first.getId())).isEqualTo(name);
+            assertThat(categoryDictionary.resolve(name)).isSameAs(categoryDictionary.resolve(name));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void newCategoryIsRejectedInsideTransaction() {
+        String existing = "dictionary-" + UUID.randomUUID();
+        Category registered = categoryDictionary.resolve(existing);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // 등록된 카테고리는 메모리에서만 조회하므로 트랜잭션 안에서도 사용할 수 있습니다.
+        Category resolved = transaction.execute(status -> categoryDictionary.resolve(existing));
+        assertThat(resolved).isSameAs(registered);
+        assertThatThrownBy(() -> transaction.executeWithoutResult(status -> categoryDictionary.resolve("dictionary-" + UUID.randomUUID())))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("before the transaction opens");
+    }
+
+    @Test
+    void resolveAllResolvesEachNameOnce() {
+        String name = "dictionary-" + UUID.randomUUID();
+
+        Map<String, Category> categories = categoryDictionary.resolveAll(Arrays.asList(name, null, name));
+
+        assertThat(categories).hasSize(2).containsEntry(null, null);
+        assertThat(categories.get(name)).isSameAs(categoryDictionary.resolve(name));
+    }
+
+    @Test
+    void nullCategoryIsNotRegistered() {
+        assertThat(categoryDictionary.resolve(null)).isNull();
+        assertThat(categoryDictionary.idOf(null)).isEmpty();
+    }
+}
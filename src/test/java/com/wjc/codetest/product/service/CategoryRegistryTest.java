@@ -0,0 +1,210 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.model.event.ProductChangedEvent;
+import com.wjc.codetest.product.model.event.ProductChangedEvent.Type;
+import com.wjc.codetest.product.model.response.CategoryCountResponse;
+import com.wjc.codetest.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이벤트에 따른 카테고리별 상품 수와 카테고리 목록 갱신을 확인합니다. 집계 쿼리는 Mock으로 대체합니다.
+ */
+class CategoryRegistryTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final CategoryRegistry registry = new CategoryRegistry(productRepository);
+
+    @BeforeEach
+    void load() {
+        when(productRepository.countGroupByCategory()).thenReturn(List.of(
+                new CategoryCountResponse("books", 2),
+                new CategoryCountResponse("music", 1)));
+        registry.load();
+    }
+
+    @Test
+    void loadsCountsAndSortedCategories() {
+        assertThat(registry.categories()).containsExactly("books", "music");
+        assertThat(registry.productCount("books")).isEqualTo(2);
+        assertThat(registry.productCount("games")).isZero();
+    }
+
+    @Test
+    void createdIncrementsAndPublishesNewCategory() {
+        String version = registry.categoriesVersion();
+
+        registry.onProductChanged(created(10L, "books"));
+        assertThat(registry.productCount("books")).isEqualTo(3);
+        assertThat(registry.categoriesVersion()).isEqualTo(version);
+
+        registry.onProductChanged(created(11L, "games"));
+        assertThat(registry.productCount("games")).isEqualTo(1);
+        assertThat(registry.categories()).containsExactly("books", "games", "music");
+        assertThat(registry.categoriesVersion()).isNotEqualTo(version);
+    }
+
+    @Test
+    void deletedDecrementsAndRemovesEmptyCategory() {
+        registry.onProductChanged(deleted(1L, "books"));
+        assertThat(registry.productCount("books")).isEqualTo(1);
+
+        String version = registry.categoriesVersion();
+        registry.onProductChanged(deleted(2L, "music"));
+        assertThat(registry.productCount("music")).isZero();
+        assertThat(registry.categories()).containsExactly("books");
+        assertThat(registry.categoriesVersion()).isNotEqualTo(version);
+    }
+
+    @Test
+    void updatedMovesProductBetweenCategories() {
+        registry.onProductChanged(updated(3L, "music", "books"));
+
+        assertThat(registry.productCounts()).containsExactly(new CategoryCountResponse("books", 3));
+    }
+
+    @Test
+    void updatedWithinCategoryKeepsCounts() {
+        registry.onProductChanged(updated(1L, "books", "books"));
+
+        assertThat(registry.productCounts()).containsExactly(
+                new CategoryCountResponse("books", 2), new CategoryCountResponse("music", 1));
+    }
+
+    @Test
+    void productsWithoutCategoryAreCounted() {
+        registry.onProductChanged(created(12L, null));
+
+        assertThat(registry.categories()).containsExactly(null, "books", "music");
+        assertThat(registry.productCount(null)).isEqualTo(1);
+    }
+
+    @Test
+    void reconcileCorrectsDriftFromDatabaseCounts() {
+        when(productRepository.countGroupByCategory()).thenReturn(List.of(
+                new CategoryCountResponse("books", 5),
+                new CategoryCountResponse("games", 1)));
+
+        registry.reconcile();
+
+        assertThat(registry.productCounts()).containsExactly(
+                new CategoryCountResponse("books", 5), new CategoryCountResponse("games", 1));
+        assertThat(registry.productCount("music")).isZero();
+    }
+
+    @Test
+    void reconcileDefersOnlyCategoriesChangedDuringQuery() {
+        when(productRepository.countGroupByCategory()).thenAnswer(invocation -> {
+            // 집계 쿼리 실행 중 books에 등록이 반영된 경우: 쿼리 결과에 포함되었는지 알 수 없습니다.
+            registry.onProductChanged(created(20L, "books"));
+            return List.of(new CategoryCountResponse("books", 10), new CategoryCountResponse("music", 4));
+        });
+
+        registry.reconcile();
+
+        assertThat(registry.productCount("books")).isEqualTo(3);
+        assertThat(registry.productCount("music")).isEqualTo(4);
+    }
+
+    @Test
+    void reconcileDoesNotDoubleCountCommitAwaitingItsEvent() {
+        ProductChangedEvent event = created(21L, "books");
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            // 트랜잭션 안에서 발행 -> 커밋되어 집계 쿼리에는 보이지만, 커밋 후 리스너는 아직 실행되지 않은 상태
+            registry.onProductChanging(event);
+            when(productRepository.countGroupByCategory()).thenReturn(List.of(
+                    new CategoryCountResponse("books", 3), new CategoryCountResponse("music", 1)));
+            registry.reconcile();
+            assertThat(registry.productCount("books")).isEqualTo(2);
+
+            registry.onProductChanged(event);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(registry.productCount("books")).isEqualTo(3);
+
+        registry.reconcile();
+        assertThat(registry.productCount("books")).isEqualTo(3);
+    }
+
+    @Test
+    void rolledBackChangeNoLongerDefersReconcile() {
+        ProductChangedEvent event = created(22L, "books");
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            registry.onProductChanging(event);
+            registry.onProductChangeRolledBack(event);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        when(productRepository.countGroupByCategory()).thenReturn(List.of(
+                new CategoryCountResponse("books", 4), new CategoryCountResponse("music", 1)));
+
+        registry.reconcile();
+
+        assertThat(registry.productCount("books")).isEqualTo(4);
+    }
+
+    @Test
+    void concurrentEventsKeepCountsAndCategoriesConsistent() throws Exception {
+        int threads = 8;
+        int rounds = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String category = "c" + (t % 2);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < rounds; i++) {
+                        registry.onProductChanged(created((long) i, category));
+                        registry.onProductChanged(deleted((long) i, category));
+                    }
+                    registry.onProductChanged(created(-1L, category));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(registry.productCount("c0")).isEqualTo(4);
+        assertThat(registry.productCount("c1")).isEqualTo(4);
+        assertThat(registry.categories()).containsExactly("books", "c0", "c1", "music");
+    }
+
+    private static ProductChangedEvent created(Long id, String category) {
+        return new ProductChangedEvent(Type.CREATED, id, null, null, category, "name", 0L);
+    }
+
+    private static ProductChangedEvent updated(Long id, String previousCategory, String category) {
+        return new ProductChangedEvent(Type.UPDATED, id, previousCategory, "name", category, "name", 1L);
+    }
+
+    private static ProductChangedEvent deleted(Long id, String category) {
+        return new ProductChangedEvent(Type.DELETED, id, category, "name", null, null, 0L);
+    }
+}
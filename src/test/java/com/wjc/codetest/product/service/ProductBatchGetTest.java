@@ -0,0 +1,88 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.model.request.CreateProductRequest;
+import com.wjc.codetest.product.model.request.GetProductBatchRequest;
+import com.wjc.codetest.product.model.response.ProductBatchResponse;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 다건 조회: 요청 ID 순서(중복 포함) 유지, 존재하지 않는 상품의 missing 항목, 캐시 적재와 요청 검증을 확인합니다.
+ */
+@SpringBootTest
+class ProductBatchGetTest {
+
+    private static final long MISSING_ID = Long.MAX_VALUE;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Test
+    void keepsRequestOrderWithDuplicatesAndMissingMarkers() {
+        String category = "batch-" + UUID.randomUUID();
+        Product first = productService.create(new CreateProductRequest(category, "first"));
+        Product second = productService.create(new CreateProductRequest(category, "second"));
+        // 하나는 캐시에서, 나머지는 IN 쿼리로 조회됩니다.
+        productService.getProduct(second.getId());
+
+        ProductBatchResponse response = productService.getProducts(new GetProductBatchRequest(
+                List.of(second.getId(), MISSING_ID, first.getId(), second.getId())));
+
+        assertThat(response.products()).extracting(ProductBatchResponse.Entry::id)
+                .containsExactly(second.getId(), MISSING_ID, first.getId(), second.getId());
+        assertThat(response.products()).extracting(ProductBatchResponse.Entry::missing)
+                .containsExactly(false, true, false, false);
+        assertThat(response.products().get(1).product()).isNull();
+        assertThat(response.products().get(2).product())
+                .isEqualTo(new ProductResponse(first.getId(), category, "first", 0L));
+        assertThat(response.missingCount()).isEqualTo(1);
+        assertThat(productCache.getIfPresent(first.getId())).isNotNull();
+        assertThat(productCache.getIfPresent(MISSING_ID)).isNull();
+    }
+
+    @Test
+    void loadsMoreIdsThanOneChunk() {
+        String category = "batch-chunk-" + UUID.randomUUID();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(productService.create(new CreateProductRequest(category, "p" + i)).getId());
+        }
+        // 기본 chunkSize(500)를 넘도록 존재하지 않는 ID를 섞고 순서를 뒤집습니다.
+        LongStream.range(0, 700).map(i -> -1 - i).forEach(ids::add);
+        Collections.reverse(ids);
+
+        ProductBatchResponse response = productService.getProducts(new GetProductBatchRequest(ids));
+
+        assertThat(response.products()).extracting(ProductBatchResponse.Entry::id).containsExactlyElementsOf(ids);
+        assertThat(response.missingCount()).isEqualTo(700);
+        assertThat(response.products().subList(700, 703)).extracting(entry -> entry.product().name())
+                .containsExactly("p2", "p1", "p0");
+    }
+
+    @Test
+    void rejectsEmptyOversizedOrNullIds() {
+        assertThatThrownBy(() -> productService.getProducts(new GetProductBatchRequest(List.of())))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> productService.getProducts(new GetProductBatchRequest(
+                LongStream.rangeClosed(1, 1001).boxed().toList())))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> productService.getProducts(new GetProductBatchRequest(Arrays.asList(1L, null))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
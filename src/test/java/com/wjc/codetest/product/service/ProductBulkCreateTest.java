@@ -0,0 +1,51 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.model.event.ProductChangedEvent;
+import com.wjc.codetest.product.model.event.ProductsCreatedEvent;
+import com.wjc.codetest.product.model.request.CreateProductRequest;
+import com.wjc.codetest.product.model.response.BulkCreateProductResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 등록이 flush 단위로 등록 이벤트를 묶어 발행하고, 인메모리 집계가 등록 건수만큼 갱신되는지 확인합니다.
+ */
+@SpringBootTest
+@RecordApplicationEvents
+class ProductBulkCreateTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryRegistry categoryRegistry;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Test
+    void publishesOneEventPerFlush() {
+        String category = "bulk-" + UUID.randomUUID();
+        List<CreateProductRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 1_200; i++) {
+            requests.add(new CreateProductRequest(category, "product-" + i));
+        }
+
+        BulkCreateProductResponse response = productService.createAll(requests);
+
+        assertThat(response.productIds()).hasSize(1_200).doesNotHaveDuplicates();
+        assertThat(events.stream(ProductChangedEvent.class)).isEmpty();
+        assertThat(events.stream(ProductsCreatedEvent.class).map(event -> event.products().size()))
+                .containsExactly(500, 500, 200);
+        assertThat(categoryRegistry.productCount(category)).isEqualTo(1_200);
+    }
+}
@@ -0,0 +1,135 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.config.ProductCacheProperties;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductCacheTest {
+
+    private final ProductCache cache = new ProductCache(
+            new ProductCacheProperties(true, 100, Duration.ofMinutes(10)), new SimpleMeterRegistry());
+
+    @Test
+    void evictDuringLoadDropsStaleResult() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ProductResponse> stale = CompletableFuture.supplyAsync(() -> cache.get(1L, id -> {
+            loading.countDown();
+            await(release);
+            return product(id, "before");
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        cache.evict(1L);
+        release.countDown();
+
+        assertThat(stale.get(5, TimeUnit.SECONDS).name()).isEqualTo("before");
+        assertThat(cache.getIfPresent(1L)).isNull();
+        assertThat(cache.get(1L, id -> product(id, "after")).name()).isEqualTo("after");
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ProductResponse> leader = CompletableFuture.supplyAsync(() -> cache.get(2L, id -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return product(id, "loaded");
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<ProductResponse> follower = CompletableFuture.supplyAsync(() -> cache.get(2L, id -> {
+            loads.incrementAndGet();
+            return product(id, "second");
+        }));
+
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS).name()).isEqualTo("loaded");
+        assertThat(follower.get(5, TimeUnit.SECONDS).name()).isEqualTo("loaded");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        assertThatThrownBy(() -> cache.get(3L, id -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+        assertThat(cache.getIfPresent(3L)).isNull();
+        assertThat(cache.get(3L, id -> product(id, "retry")).name()).isEqualTo("retry");
+    }
+
+    @Test
+    void getAllLoadsOnlyMissesAndSkipsMissingProducts() {
+        cache.put(product(10L, "cached"));
+        List<Set<Long>> loads = new ArrayList<>();
+
+        Map<Long, ProductResponse> found = cache.getAll(List.of(10L, 11L, 12L), ids -> {
+            loads.add(ids);
+            return List.of(product(11L, "loaded"));
+        });
+
+        assertThat(loads).containsExactly(Set.of(11L, 12L));
+        assertThat(found).containsOnlyKeys(10L, 11L);
+        assertThat(found.get(10L).name()).isEqualTo("cached");
+        assertThat(cache.getIfPresent(11L).name()).isEqualTo("loaded");
+        assertThat(cache.getIfPresent(12L)).isNull();
+    }
+
+    @Test
+    void evictDuringGetAllDropsStaleResult() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Map<Long, ProductResponse>> stale = CompletableFuture.supplyAsync(() -> cache.getAll(List.of(20L, 21L), ids -> {
+            loading.countDown();
+            await(release);
+            return List.of(product(20L, "before"), product(21L, "before"));
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        cache.evict(20L);
+        release.countDown();
+
+        assertThat(stale.get(5, TimeUnit.SECONDS)).containsOnlyKeys(20L, 21L);
+        assertThat(cache.getIfPresent(20L)).isNull();
+        assertThat(cache.getIfPresent(21L).name()).isEqualTo("before");
+    }
+
+    @Test
+    void failedGetAllIsNotCached() {
+        assertThatThrownBy(() -> cache.getAll(List.of(30L), ids -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+        assertThat(cache.getIfPresent(30L)).isNull();
+    }
+
+    private static ProductResponse product(Long id, String name) {
+        return new ProductResponse(id, "category", name, 0L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
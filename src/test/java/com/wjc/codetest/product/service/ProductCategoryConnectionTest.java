@@ -0,0 +1,78 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.model.request.CreateProductRequest;
+import com.wjc.codetest.product.model.request.PatchProductRequest;
+import com.wjc.codetest.product.model.request.UpdateProductRequest;
+import com.wjc.codetest.product.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 새 카테고리를 참조하는 등록/수정이 커넥션 풀 크기보다 많이 동시에 실행되어도, 트랜잭션 안에서 커넥션을 하나 더 기다리지 않는지 확인합니다.
+ * (카테고리 등록이 상품 트랜잭션 안에서 실행되면 모든 스레드가 두 번째 커넥션을 기다리다 connection-timeout으로 실패합니다)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:category-connection;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=2000"
+})
+class ProductCategoryConnectionTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void newCategoriesAreResolvedBeforeTheProductTransaction() throws Exception {
+        String prefix = "connection-" + UUID.randomUUID();
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            products.add(productService.create(new CreateProductRequest(prefix, "product-" + i)));
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                Long productId = products.get(i).getId();
+                String thread = prefix + "-" + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    productService.createAll(List.of(new CreateProductRequest(thread + "-bulk", "bulk")));
+                    productService.updateIfMatch(new UpdateProductRequest(productId, thread + "-put", "put"), 0L);
+                    productService.patch(productId, new PatchProductRequest(thread + "-patch", null));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int i = 0; i < THREADS; i++) {
+            assertThat(productRepository.findResponseById(products.get(i).getId())).get()
+                    .satisfies(product -> assertThat(product.category()).endsWith("-patch"));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.model.event.ProductChangedEvent;
+import com.wjc.codetest.product.model.request.CreateProductRequest;
+import com.wjc.codetest.product.model.request.PatchProductRequest;
+import com.wjc.codetest.product.model.request.UpdateProductRequest;
+import com.wjc.codetest.product.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모든 변경 이벤트가 커밋된 DB 버전을 담는지 확인합니다. (인메모리 인덱스는 이 버전으로 이벤트 순서를 판단합니다)
+ * 이름만 변경한 PATCHED는 인덱스가 켜져 있을 때만 버전을 담으므로, 인덱스를 켜고 확인합니다.
+ */
+@SpringBootTest(properties = "product.index.enabled=true")
+@RecordApplicationEvents
+class ProductChangedEventVersionTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Test
+    void everyEventCarriesCommittedVersion() {
+        Product product = productService.create(new CreateProductRequest("versions", "created"));
+        assertThat(lastEvent().version()).isEqualTo(0L).isEqualTo(dbVersion(product.getId()));
+
+        productService.update(new UpdateProductRequest(product.getId(), "versions", "updated"));
+        assertThat(lastEvent().version()).isEqualTo(1L).isEqualTo(dbVersion(product.getId()));
+
+        productService.updateIfMatch(new UpdateProductRequest(product.getId(), "versions", "matched"), 1L);
+        assertThat(lastEvent().version()).isEqualTo(2L).isEqualTo(dbVersion(product.getId()));
+
+        productService.patch(product.getId(), new PatchProductRequest(null, "patched"));
+        ProductChangedEvent patched = lastEvent();
+        assertThat(patched.version()).isEqualTo(3L).isEqualTo(dbVersion(product.getId()));
+        assertThat(patched.category()).isEqualTo("versions");
+        assertThat(patched.name()).isEqualTo("patched");
+
+        productService.deleteById(product.getId());
+        assertThat(lastEvent().type()).isEqualTo(ProductChangedEvent.Type.DELETED);
+        assertThat(lastEvent().version()).isEqualTo(3L);
+    }
+
+    private ProductChangedEvent lastEvent() {
+        return events.stream(ProductChangedEvent.class).reduce((first, second) -> second).orElseThrow();
+    }
+
+    private Long dbVersion(Long productId) {
+        return productRepository.findResponseById(productId).orElseThrow().version();
+    }
+}
@@ -0,0 +1,81 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.model.request.CreateProductRequest;
+import com.wjc.codetest.product.model.request.GetProductCursorListRequest;
+import com.wjc.codetest.product.model.response.ProductCursorListResponse;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커서 기반 목록 조회가 카테고리의 모든 상품을 ID 순으로 중복/누락 없이 반환하는지 확인합니다.
+ * 다른 테스트와 DB를 공유하므로 테스트마다 새 카테고리를 사용합니다.
+ */
+@SpringBootTest
+class ProductCursorListTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    void pagesThroughCategoryInIdOrder() {
+        String category = "cursor-" + UUID.randomUUID();
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            expected.add(productService.create(new CreateProductRequest(category, "product-" + i)).getId());
+            productService.create(new CreateProductRequest(category + "-other", "other-" + i));
+        }
+
+        List<Long> actual = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ProductCursorListResponse page = productService.getListByCategoryAfter(request(category, cursor, 10));
+            page.getProducts().forEach(product -> assertThat(product.category()).isEqualTo(category));
+            page.getProducts().stream().map(ProductResponse::id).forEach(actual::add);
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(actual).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    void exactMultipleOfSizeEndsWithoutEmptyPage() {
+        String category = "cursor-" + UUID.randomUUID();
+        for (int i = 0; i < 4; i++) {
+            productService.create(new CreateProductRequest(category, "product-" + i));
+        }
+
+        ProductCursorListResponse first = productService.getListByCategoryAfter(request(category, null, 2));
+        ProductCursorListResponse second = productService.getListByCategoryAfter(request(category, first.getNextCursor(), 2));
+
+        assertThat(first.getNextCursor()).isNotNull();
+        assertThat(second.getProducts()).hasSize(2);
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void unknownCategoryIsEmpty() {
+        ProductCursorListResponse page = productService.getListByCategoryAfter(request("cursor-" + UUID.randomUUID(), null, 10));
+
+        assertThat(page.getProducts()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    private static GetProductCursorListRequest request(String category, String after, int size) {
+        GetProductCursorListRequest request = new GetProductCursorListRequest();
+        request.setCategory(category);
+        request.setAfter(after);
+        request.setSize(size);
+        return request;
+    }
+}
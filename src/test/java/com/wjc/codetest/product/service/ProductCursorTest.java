@@ -0,0 +1,33 @@
+package com.wjc.codetest.product.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductCursorTest {
+
+    @Test
+    void roundTrip() {
+        for (long id : new long[]{0L, 1L, 255L, 1_000_000L, Long.MAX_VALUE}) {
+            assertThat(ProductCursor.decode(ProductCursor.encode(id))).isEqualTo(id);
+        }
+    }
+
+    @Test
+    void tokenIsUrlSafeWithoutPadding() {
+        assertThat(ProductCursor.encode(Long.MAX_VALUE)).matches("[A-Za-z0-9_-]{11}");
+    }
+
+    @Test
+    void missingTokenStartsFromFirstPage() {
+        assertThat(ProductCursor.decode(null)).isZero();
+        assertThat(ProductCursor.decode(" ")).isZero();
+    }
+
+    @Test
+    void rejectsMalformedToken() {
+        assertThatThrownBy(() -> ProductCursor.decode("not a cursor")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductCursor.decode("AQ")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,109 @@
+package com.wjc.codetest.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wjc.codetest.product.config.ProductImportProperties;
+import com.wjc.codetest.product.model.request.CreateProductRequest;
+import com.wjc.codetest.product.model.response.BulkCreateProductResponse;
+import com.wjc.codetest.product.model.response.ImportProductResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * chunk 단위 커밋과 제외/중단 row 수 집계를 확인합니다. 등록은 Mock으로 대체하여 커밋된 chunk 크기만 기록합니다.
+ */
+class ProductImportServiceTest {
+
+    private final ProductService productService = mock(ProductService.class);
+    private final List<Integer> committedChunks = new ArrayList<>();
+    private final ProductImportService importService =
+            new ProductImportService(productService, new ProductImportProperties(3), new ObjectMapper());
+
+    @BeforeEach
+    void recordCommits() {
+        when(productService.createAll(anyList())).thenAnswer(invocation -> {
+            int size = invocation.<List<CreateProductRequest>>getArgument(0).size();
+            committedChunks.add(size);
+            return new BulkCreateProductResponse(size, Collections.nCopies(size, 1L));
+        });
+    }
+
+    @Test
+    void commitsInChunks() throws IOException {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 7; i++) {
+            body.append("{\"category\":\"c\",\"name\":\"n").append(i).append("\"}\n");
+        }
+
+        ImportProductResponse response = importNdjson(body.toString());
+
+        assertThat(committedChunks).containsExactly(3, 3, 1);
+        assertThat(response.importedCount()).isEqualTo(7);
+        assertThat(response.rejectedCount()).isZero();
+        assertThat(response.error()).isNull();
+    }
+
+    @Test
+    void rejectsInvalidRowsAndContinues() throws IOException {
+        ImportProductResponse response = importNdjson("""
+                {"category":"c","name":"ok-1"}
+                {"category":"c"}
+                {"category":["not","a","string"],"name":"bad"}
+                {"category":" ","name":"blank"}
+                {"category":"c","name":"ok-2"}
+                """);
+
+        assertThat(response.importedCount()).isEqualTo(2);
+        assertThat(response.rejectedCount()).isEqualTo(3);
+        assertThat(response.error()).isNull();
+    }
+
+    @Test
+    void stopsAtSyntaxErrorAndReportsLocation() throws IOException {
+        ImportProductResponse response = importNdjson("""
+                {"category":"c","name":"ok-1"}
+                {"category":"c"}
+                {"category":"c","name":"ok-2"}
+                {"category":"c" "name":"broken"}
+                {"category":"c","name":"never"}
+                """);
+
+        assertThat(committedChunks).containsExactly(2);
+        assertThat(response.importedCount()).isEqualTo(2);
+        assertThat(response.rejectedCount()).isEqualTo(1);
+        assertThat(response.error()).isNotNull();
+        assertThat(response.error().line()).isEqualTo(4);
+    }
+
+    @Test
+    void readsCsvWithHeader() throws IOException {
+        ImportProductResponse response = importService.importProducts(stream("""
+                category,name
+                c,csv-1
+                c,
+                c,csv-2
+                """), ProductImportService.Format.CSV);
+
+        assertThat(response.importedCount()).isEqualTo(2);
+        assertThat(response.rejectedCount()).isEqualTo(1);
+    }
+
+    private ImportProductResponse importNdjson(String body) throws IOException {
+        return importService.importProducts(stream(body), ProductImportService.Format.NDJSON);
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,152 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.model.event.ProductChangedEvent;
+import com.wjc.codetest.product.model.request.CreateProductRequest;
+import com.wjc.codetest.product.model.request.PatchProductRequest;
+import com.wjc.codetest.product.model.response.CategoryCountResponse;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import com.wjc.codetest.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 부분 수정의 수정 행 수와, 카테고리 변경 시 이전 카테고리가 이벤트에 담겨 카테고리 집계가 DB와 같게 유지되는지 확인합니다.
+ * 이전 상태를 캐시에서 얻는 경우, 캐시가 없는 경우, 캐시가 오래된 경우를 모두 확인합니다.
+ */
+@SpringBootTest
+@RecordApplicationEvents
+class ProductPatchTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private CategoryRegistry categoryRegistry;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private String from;
+    private String to;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        String tag = UUID.randomUUID().toString();
+        from = "patch-from-" + tag;
+        to = "patch-to-" + tag;
+        product = productService.create(new CreateProductRequest(from, "name"));
+        productService.create(new CreateProductRequest(from, "other"));
+    }
+
+    @Test
+    void nameOnlyPatchKeepsCategoryCounts() {
+        assertThat(productService.patch(product.getId(), new PatchProductRequest(null, "renamed"))).isEqualTo(1);
+
+        // 인덱스가 꺼져 있으면 수정 후 상태를 조회하지 않으므로, 이벤트에는 이름만 담깁니다.
+        ProductChangedEvent event = lastEvent();
+        assertThat(event.type()).isEqualTo(ProductChangedEvent.Type.PATCHED);
+        assertThat(event.previousCategory()).isNull();
+        assertThat(event.category()).isNull();
+        assertThat(event.version()).isNull();
+        assertThat(event.name()).isEqualTo("renamed");
+        assertThat(productRepository.findResponseById(product.getId())).get()
+                .isEqualTo(new ProductResponse(product.getId(), from, "renamed", 1L));
+        assertCountsMatchDatabase(2, 0);
+    }
+
+    @Test
+    void categoryPatchWithCachedStateMovesCount() {
+        productService.getProduct(product.getId());
+        assertThat(productCache.getIfPresent(product.getId())).isNotNull();
+
+        assertThat(productService.patch(product.getId(), new PatchProductRequest(to, null))).isEqualTo(1);
+
+        assertPatched(new ProductResponse(product.getId(), to, "name", 1L));
+        assertCountsMatchDatabase(1, 1);
+    }
+
+    @Test
+    void categoryPatchWithoutCachedStateMovesCount() {
+        productCache.evict(product.getId());
+
+        assertThat(productService.patch(product.getId(), new PatchProductRequest(to, "moved"))).isEqualTo(1);
+
+        assertPatched(new ProductResponse(product.getId(), to, "moved", 1L));
+        assertCountsMatchDatabase(1, 1);
+    }
+
+    @Test
+    void categoryPatchWithStaleCachedStateReadsCurrentState() {
+        productService.patch(product.getId(), new PatchProductRequest(to, null));
+        // 캐시에 이전 버전(카테고리 from)이 남아 있는 경우
+        productCache.put(new ProductResponse(product.getId(), from, "name", 0L));
+
+        assertThat(productService.patch(product.getId(), new PatchProductRequest(from, null))).isEqualTo(1);
+
+        ProductChangedEvent event = lastEvent();
+        assertThat(event.previousCategory()).isEqualTo(to);
+        assertThat(event.category()).isEqualTo(from);
+        assertThat(event.version()).isEqualTo(2L);
+        assertCountsMatchDatabase(2, 0);
+    }
+
+    @Test
+    void repeatedCategoryPatchDoesNotDoubleCount() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(productService.patch(product.getId(), new PatchProductRequest(to, null))).isEqualTo(1);
+        }
+
+        assertThat(lastEvent().previousCategory()).isEqualTo(to);
+        assertCountsMatchDatabase(1, 1);
+    }
+
+    @Test
+    void missingProductUpdatesNoRowAndPublishesNothing() {
+        long before = events.stream(ProductChangedEvent.class).count();
+
+        assertThat(productService.patch(Long.MAX_VALUE, new PatchProductRequest(to, null))).isZero();
+        assertThat(productService.patch(Long.MAX_VALUE, new PatchProductRequest(null, "name"))).isZero();
+
+        assertThat(events.stream(ProductChangedEvent.class).count()).isEqualTo(before);
+    }
+
+    private void assertPatched(ProductResponse expected) {
+        ProductChangedEvent event = lastEvent();
+        assertThat(event.type()).isEqualTo(ProductChangedEvent.Type.PATCHED);
+        assertThat(event.previousCategory()).isEqualTo(from);
+        assertThat(new ProductResponse(event.productId(), event.category(), event.name(), event.version())).isEqualTo(expected);
+        assertThat(productRepository.findResponseById(product.getId())).contains(expected);
+    }
+
+    private void assertCountsMatchDatabase(long fromCount, long toCount) {
+        assertThat(categoryRegistry.productCount(from)).isEqualTo(fromCount).isEqualTo(databaseCount(from));
+        assertThat(categoryRegistry.productCount(to)).isEqualTo(toCount).isEqualTo(databaseCount(to));
+    }
+
+    private long databaseCount(String category) {
+        return productRepository.countGroupByCategory().stream()
+                .filter(count -> category.equals(count.category()))
+                .mapToLong(CategoryCountResponse::productCount)
+                .findFirst().orElse(0L);
+    }
+
+    private ProductChangedEvent lastEvent() {
+        return events.stream(ProductChangedEvent.class).reduce((first, second) -> second).orElseThrow();
+    }
+}
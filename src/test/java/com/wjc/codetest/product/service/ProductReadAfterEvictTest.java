@@ -0,0 +1,98 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.model.request.CreateProductRequest;
+import com.wjc.codetest.product.model.request.UpdateProductRequest;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import com.wjc.codetest.product.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 캐시 미스 조회(leader)가 진행 중일 때 수정이 커밋되어 무효화되면, 그 뒤의 미스(follower)는 leader의 이전 값에 합류하지 않고
+ * 새로 조회하며, 이전 값이 캐시에 남지 않는지 확인합니다. (ProductCacheTest.evictDuringLoadDropsStaleResult의 서비스 단위 경우)
+ */
+@SpringBootTest
+class ProductReadAfterEvictTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoSpyBean
+    private ProductRepository productRepository;
+
+    @Test
+    void missAfterEvictDoesNotJoinStaleLoad() throws Exception {
+        Product product = productService.create(new CreateProductRequest("evict-" + UUID.randomUUID(), "before"));
+        Long productId = product.getId();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean first = new AtomicBoolean(true);
+        // 리포지토리 프록시의 spy는 실제 메서드를 직접 호출할 수 없으므로, 같은 행을 다른 조회로 읽어 Projection을 만듭니다.
+        doAnswer(invocation -> {
+            Optional<ProductResponse> result = productRepository.findWithCategoryById(productId)
+                    .map(current -> new ProductResponse(current.getId(), current.getCategory(), current.getName(), current.getVersion()));
+            if (first.getAndSet(false)) {
+                loading.countDown();
+                await(release);
+            }
+            return result;
+        }).when(productRepository).findResponseById(productId);
+        productCache.evict(productId);
+        double coalescedBefore = coalesced();
+
+        CompletableFuture<ProductResponse> leader = CompletableFuture.supplyAsync(() -> productService.getProduct(productId));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        productService.update(new UpdateProductRequest(productId, product.getCategory(), "after"));
+        CompletableFuture<ProductResponse> follower = CompletableFuture.supplyAsync(() -> productService.getProduct(productId));
+        awaitDoneOrCoalesced(follower, coalescedBefore);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS).name()).isEqualTo("before");
+        assertThat(follower.get(5, TimeUnit.SECONDS).name()).isEqualTo("after");
+        assertThat(productCache.getIfPresent(productId).name()).isEqualTo("after");
+        assertThat(productService.getProduct(productId).name()).isEqualTo("after");
+    }
+
+    /**
+     * follower가 leader에 합류했다면 release 전까지 끝나지 않으므로, 합류(coalesced 증가) 또는 완료 중 먼저 일어나는 쪽을 기다립니다.
+     */
+    private void awaitDoneOrCoalesced(CompletableFuture<?> follower, double coalescedBefore) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!follower.isDone() && coalesced() == coalescedBefore) {
+            assertThat(System.nanoTime()).as("follower neither finished nor coalesced within 5s").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private double coalesced() {
+        return meterRegistry.counter("product.single_flight.calls", "name", "product", "result", "coalesced").count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.config.ProductSearchProperties;
+import com.wjc.codetest.product.index.ProductNameIndex;
+import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.model.request.CreateProductRequest;
+import com.wjc.codetest.product.model.request.ProductSearchMode;
+import com.wjc.codetest.product.model.response.ProductResponse;
+import com.wjc.codetest.product.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 상품명 인덱스 비활성화(기본 설정) 시 DB LIKE 조회로 같은 검색 결과를 반환하는지 확인합니다.
+ */
+@SpringBootTest
+class ProductSearchServiceTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductSearchService productSearchService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void searchFallsBackToDatabase() {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        Product second = productService.create(new CreateProductRequest("search", "B-" + tag + "-x"));
+        Product first = productService.create(new CreateProductRequest("search", "a-" + tag + "-y"));
+        Product third = productService.create(new CreateProductRequest("search", "A-" + tag + "-z"));
+
+        assertThat(productSearchService.search("a-" + tag.toUpperCase(), ProductSearchMode.PREFIX, 10))
+                .extracting(ProductResponse::id).containsExactly(first.getId(), third.getId());
+        assertThat(productSearchService.search(tag, ProductSearchMode.CONTAINS, 10))
+                .extracting(ProductResponse::id).containsExactly(second.getId(), first.getId(), third.getId());
+        assertThat(productSearchService.search(tag, ProductSearchMode.CONTAINS, 1))
+                .extracting(ProductResponse::id).containsExactly(second.getId());
+    }
+
+    /**
+     * 대소문자가 섞인 상품명: 원래 상품명 순(대문자 우선)이 아닌 소문자 상품명, ID 순으로 인덱스와 DB 조회가 같은 상위 N건을 반환해야 합니다.
+     */
+    @Test
+    void prefixSearchOrderIsTheSameWithAndWithoutNameIndex() {
+        String tag = "mixed-" + UUID.randomUUID().toString().substring(0, 8);
+        Product lowerB = productService.create(new CreateProductRequest("search", tag + "-b"));
+        Product upperC = productService.create(new CreateProductRequest("search", tag.toUpperCase() + "-C"));
+        Product upperA = productService.create(new CreateProductRequest("search", tag.toUpperCase() + "-A"));
+        Product lowerA = productService.create(new CreateProductRequest("search", tag + "-a"));
+        ProductNameIndex nameIndex = new ProductNameIndex(new ProductSearchProperties(true, 100),
+                productRepository, transactionManager);
+        nameIndex.load();
+        ProductSearchService indexed = new ProductSearchService(nameIndex, productRepository, new ProductSearchProperties(true, 100));
+
+        for (int size = 1; size <= 4; size++) {
+            List<Long> fromDatabase = productSearchService.search(tag, ProductSearchMode.PREFIX, size)
+                    .stream().map(ProductResponse::id).toList();
+            List<Long> fromIndex = indexed.search(tag.toUpperCase(), ProductSearchMode.PREFIX, size)
+                    .stream().map(ProductResponse::id).toList();
+
+            assertThat(fromDatabase).isEqualTo(fromIndex);
+        }
+        assertThat(productSearchService.search(tag, ProductSearchMode.PREFIX, 4)).extracting(ProductResponse::id)
+                .containsExactly(upperA.getId(), lowerA.getId(), lowerB.getId(), upperC.getId());
+    }
+
+    @Test
+    void likeWildcardsInPrefixAreMatchedLiterally() {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        Product literal = productService.create(new CreateProductRequest("search", "50%_" + tag));
+        productService.create(new CreateProductRequest("search", "50xx" + tag));
+
+        assertThat(productSearchService.search("50%_" + tag, ProductSearchMode.PREFIX, 10))
+                .extracting(ProductResponse::id).containsExactly(literal.getId());
+        assertThat(productSearchService.search("50__" + tag, ProductSearchMode.PREFIX, 10)).isEmpty();
+    }
+
+    @Test
+    void sizeIsLimitedToMaxResults() {
+        assertThatThrownBy(() -> productSearchService.search("a", ProductSearchMode.PREFIX, 101))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> productSearchService.search(" ", ProductSearchMode.PREFIX, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,250 @@
+package com.wjc.codetest.product.service;
+
+import com.wjc.codetest.product.config.ProductWriteBehindProperties;
+import com.wjc.codetest.product.model.domain.Product;
+import com.wjc.codetest.product.model.event.ProductChangedEvent;
+import com.wjc.codetest.product.model.event.ProductChangedEvent.Type;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * write-behind 버퍼의 배치 커밋, 버퍼가 가득 찬 경우의 backpressure/거절, 종료 시 drain을 확인합니다.
+ * 배치 INSERT와 트랜잭션은 Mock으로 대체하고, 배치 INSERT 호출마다 INSERT된 ID 목록을 기록합니다.
+ * (EntityManagerFactory는 Mock으로 대체할 수 없어 애플리케이션 컨텍스트의 것을 사용합니다)
+ */
+@SpringBootTest
+class ProductWriteBufferTest {
+
+    private static final Duration OFFER_TIMEOUT = Duration.ofMillis(100);
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final ProductIdAllocator idAllocator = mock(ProductIdAllocator.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<Long>> batches = new CopyOnWriteArrayList<>();
+    private final List<ProductChangedEvent> events = new CopyOnWriteArrayList<>();
+    private ProductWriteBuffer buffer;
+
+    @AfterEach
+    void stop() {
+        if (buffer != null) {
+            buffer.stop();
+        }
+    }
+
+    @Test
+    void flushesFullBatchesAndCommitsRemainderAfterInterval() throws Exception {
+        recordInserts(null);
+        start(100, 3, Duration.ofMillis(200));
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            ids.add(buffer.submit(null, "name-" + i).getId());
+        }
+
+        await(() -> events.size() == 7);
+        assertThat(batches).containsExactly(ids.subList(0, 3), ids.subList(3, 6), ids.subList(6, 7));
+        assertThat(events).extracting(ProductChangedEvent::type).containsOnly(Type.CREATED);
+        assertThat(events).extracting(ProductChangedEvent::productId).containsExactlyElementsOf(ids);
+        assertThat(rows("flushed")).isEqualTo(7);
+    }
+
+    @Test
+    void submittedProductIsReservedButNotVisibleUntilCommit() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch inserting = new CountDownLatch(1);
+        recordInserts(() -> block(inserting, release));
+        start(10, 10, Duration.ofMillis(20));
+
+        Product product = buffer.submit(null, "pending");
+
+        assertThat(product.getId()).isEqualTo(1L);
+        assertThat(product.getVersion()).isZero();
+        assertThat(inserting.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(events).isEmpty();
+
+        release.countDown();
+        await(() -> events.size() == 1);
+    }
+
+    @Test
+    void fullBufferBlocksForOfferTimeoutThenRejects() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch inserting = new CountDownLatch(1);
+        recordInserts(() -> block(inserting, release));
+        start(2, 1, Duration.ofMillis(20));
+
+        buffer.submit(null, "in-flight");
+        assertThat(inserting.await(5, TimeUnit.SECONDS)).isTrue();
+        buffer.submit(null, "queued-1");
+        buffer.submit(null, "queued-2");
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> buffer.submit(null, "overflow"))
+                .isInstanceOf(RejectedExecutionException.class)
+                .hasMessageContaining("full");
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isGreaterThanOrEqualTo(OFFER_TIMEOUT);
+        assertThat(rows("rejected")).isEqualTo(1);
+
+        release.countDown();
+        await(() -> events.size() == 3);
+        assertThat(rows("flushed")).isEqualTo(3);
+    }
+
+    @Test
+    void stopRejectsNewProductsAndDrainsBufferedOnes() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch inserting = new CountDownLatch(1);
+        recordInserts(() -> block(inserting, release));
+        // flushInterval이 길어도 종료 중에는 다음 등록을 기다리지 않고 바로 커밋합니다.
+        start(10, 2, Duration.ofSeconds(30));
+
+        for (int i = 0; i < 5; i++) {
+            buffer.submit(null, "name-" + i);
+        }
+        assertThat(inserting.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> stopping = CompletableFuture.runAsync(buffer::stop);
+        await(() -> !buffer.isRunning());
+        assertThatThrownBy(() -> buffer.submit(null, "late"))
+                .isInstanceOf(RejectedExecutionException.class)
+                .hasMessageContaining("not running");
+        assertThat(stopping).isNotDone();
+
+        release.countDown();
+        stopping.get(5, TimeUnit.SECONDS);
+
+        assertThat(events).extracting(ProductChangedEvent::productId).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(5);
+        assertThat(rows("flushed")).isEqualTo(5);
+        assertThat(rows("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void failedBatchIsRetriedRowByRowAndSkipsOnlyTheFailingRow() throws Exception {
+        doAnswer(invocation -> {
+            List<Long> ids = insertedIds(invocation);
+            if (ids.contains(2L)) {
+                throw new DataIntegrityViolationException("duplicate product_id 2");
+            }
+            batches.add(ids);
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+        start(10, 3, Duration.ofMillis(200));
+
+        for (int i = 0; i < 3; i++) {
+            buffer.submit(null, "name-" + i);
+        }
+
+        await(() -> events.size() == 2 && rows("failed") == 1);
+        assertThat(batches).containsExactly(List.of(1L), List.of(3L));
+        assertThat(events).extracting(ProductChangedEvent::productId).containsExactly(1L, 3L);
+        assertThat(rows("failed")).isEqualTo(1);
+    }
+
+    private void start(int capacity, int batchSize, Duration flushInterval) {
+        AtomicLong ids = new AtomicLong();
+        when(idAllocator.next()).thenAnswer(invocation -> ids.incrementAndGet());
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        ProductWriteBehindProperties properties = new ProductWriteBehindProperties(
+                true, capacity, batchSize, flushInterval, OFFER_TIMEOUT, Duration.ofSeconds(10));
+
+        buffer = new ProductWriteBuffer(properties, idAllocator, jdbcTemplate, transactionManager,
+                event -> events.add((ProductChangedEvent) event), entityManagerFactory, meterRegistry);
+        buffer.start();
+    }
+
+    /**
+     * 배치 INSERT마다 INSERT된 ID 목록을 기록합니다. beforeInsert는 기록 전에 플러시 스레드에서 실행됩니다.
+     */
+    private void recordInserts(Runnable beforeInsert) {
+        doAnswer(invocation -> {
+            if (beforeInsert != null) {
+                beforeInsert.run();
+            }
+            batches.add(insertedIds(invocation));
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+    }
+
+    /**
+     * 첫 INSERT만 release 전까지 멈춥니다. (플러시 스레드가 DB 응답을 기다리는 상태)
+     */
+    private static void block(CountDownLatch inserting, CountDownLatch release) {
+        if (inserting.getCount() == 0) {
+            return;
+        }
+        inserting.countDown();
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Long> insertedIds(InvocationOnMock invocation) throws Exception {
+        Collection<Object> rows = invocation.getArgument(1);
+        ParameterizedPreparedStatementSetter<Object> setter = invocation.getArgument(3);
+        List<Long> ids = new ArrayList<>();
+        PreparedStatement ps = mock(PreparedStatement.class);
+        doAnswer(set -> {
+            if ((int) set.getArgument(0) == 1) {
+                ids.add(set.getArgument(1));
+            }
+            return null;
+        }).when(ps).setLong(anyInt(), anyLong());
+        for (Object row : rows) {
+            setter.setValues(ps, row);
+        }
+        return ids;
+    }
+
+    private long rows(String result) {
+        return (long) meterRegistry.counter("product.write_behind.rows", "result", result).count();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 5s").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
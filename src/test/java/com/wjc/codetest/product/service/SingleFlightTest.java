@@ -0,0 +1,162 @@
+package com.wjc.codetest.product.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 키의 동시 호출은 leader 1회 실행 결과(또는 예외)를 공유하고, 실행이 끝난 뒤의 호출은 다시 실행하는지 확인합니다.
+ */
+class SingleFlightTest {
+
+    private static final int FOLLOWERS = 7;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<Long, Object> singleFlight = new SingleFlight<>("test", meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void followersShareTheLeaderResult() throws Exception {
+        CountDownLatch leading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Object result = new Object();
+
+        Future<Object> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+            loads.incrementAndGet();
+            leading.countDown();
+            awaitQuietly(release);
+            return result;
+        }));
+        assertThat(leading.await(5, TimeUnit.SECONDS)).isTrue();
+        List<Future<Object>> followers = submitFollowers(() -> {
+            loads.incrementAndGet();
+            return new Object();
+        });
+        awaitCoalesced(FOLLOWERS);
+
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        for (Future<Object> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(calls("leader")).isEqualTo(1);
+    }
+
+    @Test
+    void followersReceiveTheLeaderExceptionUnwrapped() throws Exception {
+        CountDownLatch leading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("load failed");
+
+        Future<Object> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+            leading.countDown();
+            awaitQuietly(release);
+            throw failure;
+        }));
+        assertThat(leading.await(5, TimeUnit.SECONDS)).isTrue();
+        List<Future<Object>> followers = submitFollowers(Object::new);
+        awaitCoalesced(FOLLOWERS);
+
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause().isSameAs(failure);
+        for (Future<Object> follower : followers) {
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause().isSameAs(failure);
+        }
+    }
+
+    @Test
+    void completedFlightIsNotReused() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThatThrownBy(() -> singleFlight.execute(1L, () -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("load failed");
+        })).isInstanceOf(IllegalStateException.class);
+        Object first = singleFlight.execute(1L, () -> loads.incrementAndGet());
+        Object second = singleFlight.execute(1L, () -> loads.incrementAndGet());
+
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(3);
+        assertThat(calls("leader")).isEqualTo(3);
+        assertThat(calls("coalesced")).isZero();
+    }
+
+    @Test
+    void differentKeysDoNotWaitForEachOther() throws Exception {
+        CountDownLatch leading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> blocked = executor.submit(() -> singleFlight.execute(1L, () -> {
+            leading.countDown();
+            awaitQuietly(release);
+            return "first";
+        }));
+        assertThat(leading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(singleFlight.execute(2L, () -> "second")).isEqualTo("second");
+        assertThat(blocked).isNotDone();
+
+        release.countDown();
+        assertThat(blocked.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(calls("coalesced")).isZero();
+    }
+
+    private List<Future<Object>> submitFollowers(Supplier<Object> loader) {
+        List<Future<Object>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute(1L, loader)));
+        }
+        return followers;
+    }
+
+    /**
+     * coalesced 카운터는 leader의 결과를 기다리기 직전에 증가하므로, 모든 follower가 대기 상태에 들어갔는지 확인하는 데 사용합니다.
+     */
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (calls("coalesced") < expected) {
+            assertThat(System.nanoTime()).as("followers not coalesced within 5s").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private long calls(String result) {
+        return (long) meterRegistry.counter("product.single_flight.calls", "name", "test", "result", result).count();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}